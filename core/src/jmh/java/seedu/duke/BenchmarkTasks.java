@@ -0,0 +1,60 @@
+package seedu.duke;
+
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.ToDo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the tasks used by the benchmarks. The same seed always gives
+ * the same tasks, so that results can be compared across commits.
+ */
+final class BenchmarkTasks {
+    static final String KEYWORD = "report";
+
+    private static final long SEED = 42;
+    private static final int DATE_SPREAD_DAYS = 365;
+    private static final LocalDate MIDDLE_DATE = LocalDate.of(2021, 1, 1);
+    private static final String[] WORDS = {
+        "read", "book", "submit", "report", "career", "fair", "buy", "groceries",
+        "meeting", "project", "lecture", "tutorial", "return", "library", "call", "mum"
+    };
+
+    private BenchmarkTasks() {
+    }
+
+    /**
+     * Returns a mix of todos, deadlines and events in equal parts, with dates
+     * spread over the year around a fixed date and a quarter of the tasks done.
+     *
+     * @param count Number of tasks.
+     * @return The tasks, in a fixed order.
+     */
+    static List<Task> generate(int count) {
+        Random random = new Random(SEED);
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            LocalDate date = MIDDLE_DATE.plusDays(random.nextInt(DATE_SPREAD_DAYS) - DATE_SPREAD_DAYS / 2);
+            boolean isCompleted = random.nextInt(4) == 0;
+            switch (i % 3) {
+            case 0:
+                tasks.add(new ToDo(description, isCompleted));
+                break;
+            case 1:
+                tasks.add(new Deadline(description, date, isCompleted));
+                break;
+            default:
+                tasks.add(new Event(description, date, isCompleted));
+                break;
+            }
+        }
+        return tasks;
+    }
+}
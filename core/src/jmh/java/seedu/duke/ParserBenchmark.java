@@ -0,0 +1,58 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.duke.command.Command;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to parse one command, without executing it.
+ * Run with <code>gradlew jmh</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({
+        "todo read book",
+        "deadline submit report /by 17/09/2021",
+        "event career fair /at 18/09/2021",
+        "done 12",
+        "find /w book",
+        "get 13/09/2021 19/09/2021",
+        "list"
+    })
+    private String input;
+
+    private Duke duke;
+
+    @Setup
+    public void setUp() {
+        duke = new Duke();
+    }
+
+    @Benchmark
+    public Command parseCommand() throws DukeException {
+        return duke.parse(input);
+    }
+
+    @Benchmark
+    public LocalDate scanDate() {
+        return DateScanner.scan("17/09/2021", 0, 10);
+    }
+}
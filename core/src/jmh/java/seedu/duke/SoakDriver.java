@@ -0,0 +1,198 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a script of commands through {@link Duke#getResponse(String)} for a
+ * long time, starting over at the end of the script, and reports how Duke
+ * holds up. Before each pass after the first, the data files are restored and
+ * reloaded, so that every pass runs the script against the tasks it was
+ * generated for instead of failing on tasks an earlier pass deleted.
+ * Every interval, the throughput, latency percentiles, heap in use and the
+ * size of the data files are printed and added to a CSV report.
+ * Options are given as <code>key=value</code> arguments:
+ * <ul>
+ *     <li><code>script</code>: the commands to replay, <code>workload.txt</code> by default.</li>
+ *     <li><code>minutes</code>: how long to run for, 60 by default.</li>
+ *     <li><code>interval</code>: seconds between reports, 60 by default.</li>
+ *     <li><code>report</code>: the CSV report to write, <code>soak-report.csv</code> by default.</li>
+ * </ul>
+ * Duke loads <code>data/duke.text</code> from the working directory, as
+ * written by {@link WorkloadGenerator}.
+ * Run with <code>gradlew soak -Psoak="minutes=240"</code>.
+ */
+public class SoakDriver {
+    private static final String CSV_HEADER = "elapsed_s,commands,throughput_per_s,"
+            + "p50_us,p90_us,p99_us,p999_us,max_us,heap_used_mb,data_bytes";
+    private static final String DATA_DIRECTORY = "data";
+    private static final int INITIAL_SAMPLES = 1 << 16;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    /**
+     * Latencies of the commands in the current interval, in nanoseconds.
+     */
+    private long[] samples = new long[INITIAL_SAMPLES];
+    private int sampleCount = 0;
+
+    private void record(long nanos) {
+        if (sampleCount == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[sampleCount++] = nanos;
+    }
+
+    private long percentileMicros(double percentile) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sampleCount) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(samples[Math.max(rank, 0)]);
+    }
+
+    /**
+     * Returns the total size of the data file, its operation log and log segments.
+     */
+    private static long dataBytes() {
+        File[] files = new File(DATA_DIRECTORY).listFiles();
+        if (files == null) {
+            return 0;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the contents of every file in the data directory.
+     */
+    private static Map<Path, byte[]> readDataFiles() throws IOException {
+        Map<Path, byte[]> contents = new HashMap<>();
+        File[] files = new File(DATA_DIRECTORY).listFiles();
+        if (files == null) {
+            return contents;
+        }
+        for (File file : files) {
+            if (file.isFile()) {
+                contents.put(file.toPath(), Files.readAllBytes(file.toPath()));
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Replaces the files in the data directory with the given contents,
+     * deleting any files written since, such as new log segments.
+     */
+    private static void restoreDataFiles(Map<Path, byte[]> contents) throws IOException {
+        File[] files = new File(DATA_DIRECTORY).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isFile() && !contents.containsKey(file.toPath())) {
+                    Files.delete(file.toPath());
+                }
+            }
+        }
+        for (Map.Entry<Path, byte[]> entry : contents.entrySet()) {
+            Files.write(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static Duke startDuke() {
+        Duke duke = new Duke();
+        duke.init();
+        return duke;
+    }
+
+    private String report(long elapsedNanos, long intervalNanos) {
+        Arrays.sort(samples, 0, sampleCount);
+        long heapUsed = memory.getHeapMemoryUsage().getUsed() / BYTES_PER_MB;
+        double throughput = sampleCount / (intervalNanos / 1e9);
+        return String.format("%d,%d,%.1f,%d,%d,%d,%d,%d,%d,%d",
+                TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), sampleCount, throughput,
+                percentileMicros(0.5), percentileMicros(0.9), percentileMicros(0.99),
+                percentileMicros(0.999), percentileMicros(1), heapUsed, dataBytes());
+    }
+
+    private void run(List<String> commands, long durationNanos, long intervalNanos,
+                     PrintWriter report) throws IOException {
+        Map<Path, byte[]> initialData = readDataFiles();
+        Duke duke = startDuke();
+
+        System.out.println(CSV_HEADER);
+        report.println(CSV_HEADER);
+        long start = System.nanoTime();
+        long intervalStart = start;
+        int next = 0;
+        while (true) {
+            String command = commands.get(next);
+            next++;
+
+            long before = System.nanoTime();
+            duke.getResponse(command);
+            long after = System.nanoTime();
+            record(after - before);
+
+            if (next == commands.size()) {
+                // Reloading is left out of the latencies, but not out of the throughput.
+                next = 0;
+                duke.getStorage().close();
+                restoreDataFiles(initialData);
+                duke = startDuke();
+            }
+
+            if (after - intervalStart >= intervalNanos) {
+                String line = report(after - start, after - intervalStart);
+                System.out.println(line);
+                report.println(line);
+                report.flush();
+                sampleCount = 0;
+                intervalStart = after;
+                if (after - start >= durationNanos) {
+                    break;
+                }
+            }
+        }
+        duke.getStorage().close();
+    }
+
+    /**
+     * Replays the script until the time is up.
+     *
+     * @param args Options in the form <code>key=value</code>.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = WorkloadGenerator.parseOptions(args);
+
+        Path script = Paths.get(options.getOrDefault("script", WorkloadGenerator.SCRIPT_FILE));
+        List<String> commands = Files.readAllLines(script, StandardCharsets.UTF_8);
+        commands.removeIf(String::isBlank);
+        if (commands.isEmpty()) {
+            System.out.println("There are no commands in " + script);
+            return;
+        }
+        long durationNanos = TimeUnit.MINUTES.toNanos(Long.parseLong(options.getOrDefault("minutes", "60")));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("interval", "60")));
+
+        try (PrintWriter report = new PrintWriter(Files.newBufferedWriter(
+                Paths.get(options.getOrDefault("report", "soak-report.csv")), StandardCharsets.UTF_8))) {
+            new SoakDriver().run(commands, durationNanos, intervalNanos, report);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.TaskList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures loading a data file of each size, and recording a task as done
+ * the way a command does, including the snapshots written now and then.
+ * The files are written to a temporary directory.
+ * Run with <code>gradlew jmh</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private String filePath;
+    private TaskList taskList;
+    private Storage storage;
+    private int middle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DukeException {
+        directory = Files.createTempDirectory("duke-benchmark");
+        filePath = directory.resolve("duke.text").toString();
+        taskList = new TaskList(BenchmarkTasks.generate(size));
+        middle = size / 2;
+
+        Storage writer = new Storage(filePath, new DateIndex());
+        writer.rewriteFile(taskList);
+        writer.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void openStorage() {
+        storage = new Storage(filePath, new DateIndex());
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeStorage() throws DukeException {
+        // Leaves a snapshot of the same tasks for loadData to read.
+        storage.rewriteFile(taskList);
+        storage.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public TaskList loadData() {
+        return new Storage(filePath, new DateIndex()).loadData(new TaskList());
+    }
+
+    @Benchmark
+    public void markTaskAsCompleted() {
+        storage.markTaskAsCompleted(middle);
+        storage.checkpoint(taskList);
+    }
+}
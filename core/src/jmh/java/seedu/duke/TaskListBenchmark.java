@@ -0,0 +1,76 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.duke.command.ReminderCommand;
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.ToDo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the changes and queries on a task list of each size.
+ * Task lists are immutable, so every change starts from the same list.
+ * Run with <code>gradlew jmh</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+    private DateIndex dateIndex;
+    private Task newTask;
+    private int middle;
+
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(BenchmarkTasks.generate(size));
+        dateIndex = new DateIndex();
+        dateIndex.rebuild(taskList);
+        newTask = new ToDo("read book");
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public TaskList add() {
+        return taskList.add(newTask);
+    }
+
+    @Benchmark
+    public TaskList deleteTask() {
+        return taskList.deleteTask(middle);
+    }
+
+    @Benchmark
+    public TaskList markTaskAsCompleted() {
+        return taskList.markTaskAsCompleted(middle);
+    }
+
+    @Benchmark
+    public TaskList findTasksByKeyword() {
+        return taskList.findTasksByKeyword(BenchmarkTasks.KEYWORD);
+    }
+
+    @Benchmark
+    public String remind() throws DukeException {
+        return new ReminderCommand(new Ui(), taskList, dateIndex).execute();
+    }
+}
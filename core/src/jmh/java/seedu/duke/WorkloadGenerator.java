@@ -0,0 +1,213 @@
+package seedu.duke;
+
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.ToDo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a task file and a script of commands to run against it.
+ * Options are given as <code>key=value</code> arguments:
+ * <ul>
+ *     <li><code>tasks</code>: number of tasks in the file, 10000 by default.</li>
+ *     <li><code>commands</code>: number of commands in the script, 100000 by default.</li>
+ *     <li><code>mix</code>: weights of todos, deadlines and events, 1:1:1 by default.</li>
+ *     <li><code>spread</code>: days before and after today that dates fall in, 180 by default.</li>
+ *     <li><code>words</code>: most words in a description, 6 by default.</li>
+ *     <li><code>done</code>: fraction of tasks in the file already done, 0.25 by default.</li>
+ *     <li><code>ops</code>: weights of add, done, delete and find commands, 4:3:1:2 by default.</li>
+ *     <li><code>seed</code>: seed of the random choices, 42 by default.</li>
+ *     <li><code>out</code>: directory to write to, the working directory by default.</li>
+ * </ul>
+ * The tasks are written to <code>data/duke.text</code> in the output directory,
+ * where Duke looks for them, and the commands to <code>workload.txt</code>.
+ * Run with <code>gradlew generateWorkload -Pworkload="tasks=1000000 ops=1:1:1:1"</code>.
+ */
+public class WorkloadGenerator {
+    static final String SCRIPT_FILE = "workload.txt";
+    static final String DATA_FILE = "data/duke.text";
+
+    private static final String[] WORDS = {
+        "read", "book", "submit", "report", "career", "fair", "buy", "groceries", "meeting",
+        "project", "lecture", "tutorial", "return", "library", "call", "mum", "dentist", "pay",
+        "rent", "plan", "trip", "gym", "review", "notes", "email", "professor", "water", "plants"
+    };
+    private static final DateTimeFormatter COMMAND_DATE_FORMAT = DateTimeFormatter.ofPattern("d/MM/yyyy");
+
+    private final int taskCount;
+    private final int commandCount;
+    private final int[] typeWeights;
+    private final int spreadDays;
+    private final int maxWords;
+    private final double doneFraction;
+    private final int[] operationWeights;
+    private final Random random;
+    private final LocalDate today = LocalDate.now();
+
+    /**
+     * Number of tasks in the list after the commands written so far, to keep indices valid.
+     */
+    private int currentSize;
+
+    private WorkloadGenerator(Map<String, String> options) {
+        taskCount = Integer.parseInt(options.getOrDefault("tasks", "10000"));
+        commandCount = Integer.parseInt(options.getOrDefault("commands", "100000"));
+        typeWeights = parseWeights(options.getOrDefault("mix", "1:1:1"), 3);
+        spreadDays = Integer.parseInt(options.getOrDefault("spread", "180"));
+        maxWords = Integer.parseInt(options.getOrDefault("words", "6"));
+        doneFraction = Double.parseDouble(options.getOrDefault("done", "0.25"));
+        operationWeights = parseWeights(options.getOrDefault("ops", "4:3:1:2"), 4);
+        random = new Random(Long.parseLong(options.getOrDefault("seed", "42")));
+    }
+
+    private static int[] parseWeights(String weights, int count) {
+        String[] parts = weights.split(":");
+        if (parts.length != count) {
+            throw new IllegalArgumentException(String.format("Expected %d weights: %s", count, weights));
+        }
+        int[] parsed = new int[count];
+        for (int i = 0; i < count; i++) {
+            parsed[i] = Integer.parseInt(parts[i]);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the index of the weight picked, with a chance in proportion to the weights.
+     */
+    private int pick(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int choice = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            choice -= weights[i];
+            if (choice < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private String nextDescription() {
+        int wordCount = 1 + random.nextInt(maxWords);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return description.toString();
+    }
+
+    private LocalDate nextDate() {
+        return today.plusDays(random.nextInt(2 * spreadDays + 1) - spreadDays);
+    }
+
+    private Task nextTask() {
+        String description = nextDescription();
+        boolean isCompleted = random.nextDouble() < doneFraction;
+        switch (pick(typeWeights)) {
+        case 0:
+            return new ToDo(description, isCompleted);
+        case 1:
+            return new Deadline(description, nextDate(), isCompleted);
+        default:
+            return new Event(description, nextDate(), isCompleted);
+        }
+    }
+
+    private String nextAddCommand() {
+        String description = nextDescription();
+        currentSize++;
+        switch (pick(typeWeights)) {
+        case 0:
+            return "todo " + description;
+        case 1:
+            return "deadline " + description + " /by " + nextDate().format(COMMAND_DATE_FORMAT);
+        default:
+            return "event " + description + " /at " + nextDate().format(COMMAND_DATE_FORMAT);
+        }
+    }
+
+    private String nextCommand() {
+        int operation = currentSize == 0 ? 0 : pick(operationWeights);
+        switch (operation) {
+        case 0:
+            return nextAddCommand();
+        case 1:
+            return "done " + (1 + random.nextInt(currentSize));
+        case 2:
+            int index = 1 + random.nextInt(currentSize);
+            currentSize--;
+            return "delete " + index;
+        default:
+            return "find " + WORDS[random.nextInt(WORDS.length)];
+        }
+    }
+
+    private void writeTasks(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < taskCount; i++) {
+                writer.write(nextTask().toString());
+                writer.newLine();
+            }
+        }
+        currentSize = taskCount;
+    }
+
+    private void writeScript(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < commandCount; i++) {
+                writer.write(nextCommand());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the options given as <code>key=value</code> arguments.
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Options are given as key=value: " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Writes the task file and the script to the output directory.
+     *
+     * @param args Options in the form <code>key=value</code>.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+
+        Path out = Paths.get(options.getOrDefault("out", "."));
+        WorkloadGenerator generator = new WorkloadGenerator(options);
+        generator.writeTasks(out.resolve(DATA_FILE));
+        generator.writeScript(out.resolve(SCRIPT_FILE));
+        System.out.println(String.format("Wrote %d tasks to %s and %d commands to %s.",
+                generator.taskCount, out.resolve(DATA_FILE), generator.commandCount, out.resolve(SCRIPT_FILE)));
+    }
+}
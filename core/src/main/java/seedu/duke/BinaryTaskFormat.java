@@ -0,0 +1,158 @@
+package seedu.duke;
+
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.ToDo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Reads and writes snapshots of a task list in a compact binary format.
+ * A snapshot starts with a header made up of the magic number, the format
+ * version, the number of the first log segment not covered by the snapshot
+ * and the number of tasks. Every task is then written as a type byte,
+ * a flags byte, the epoch day of its date and its description as
+ * length-prefixed UTF-8.
+ */
+final class BinaryTaskFormat {
+    /**
+     * The bytes "DUKE", which no text snapshot can start with.
+     */
+    static final int MAGIC = 0x44554B45;
+    static final byte VERSION = 1;
+
+    private static final int COMPLETED_FLAG = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Contents of a binary snapshot.
+     */
+    static class Snapshot {
+        final long coveredSegment;
+        final ArrayList<Task> tasks;
+
+        Snapshot(long coveredSegment, ArrayList<Task> tasks) {
+            this.coveredSegment = coveredSegment;
+            this.tasks = tasks;
+        }
+    }
+
+    private BinaryTaskFormat() {
+    }
+
+    /**
+     * Checks if the given file starts with the binary snapshot magic number.
+     *
+     * @param file The file to be checked.
+     * @return true if the file holds a binary snapshot.
+     */
+    static boolean isBinary(File file) throws IOException {
+        if (file.length() < Integer.BYTES) {
+            return false;
+        }
+        try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+            return input.readInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Writes the tasks in the task list to the given file.
+     *
+     * @param file The file to be written to.
+     * @param taskList The tasks to be written.
+     * @param coveredSegment Number of the first log segment not covered by the snapshot.
+     */
+    static void write(File file, TaskList taskList, long coveredSegment) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeLong(coveredSegment);
+            output.writeInt(taskList.size());
+
+            for (Task task : taskList) {
+                byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+                boolean isDated = task instanceof Deadline || task instanceof Event;
+                output.writeByte(getTypeByte(task));
+                output.writeByte(task.isCompleted() ? COMPLETED_FLAG : 0);
+                output.writeInt(isDated ? (int) task.getDate().toEpochDay() : 0);
+                output.writeInt(description.length);
+                output.write(description);
+            }
+        }
+    }
+
+    /**
+     * Reads the binary snapshot in the given file.
+     *
+     * @param file The file to be read.
+     * @return The tasks and covered log segment of the snapshot.
+     * @throws DukeException If the file is not a binary snapshot of a supported version.
+     */
+    static Snapshot read(File file) throws IOException, DukeException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC) {
+                throw new DukeException("Not a binary snapshot.");
+            }
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new DukeException("Unsupported snapshot version " + version + ".");
+            }
+            long coveredSegment = input.readLong();
+            int count = input.readInt();
+
+            ArrayList<Task> tasks = new ArrayList<>(count);
+            byte[] buffer = new byte[256];
+            for (int i = 0; i < count; i++) {
+                char type = (char) input.readByte();
+                boolean isCompleted = (input.readByte() & COMPLETED_FLAG) != 0;
+                int epochDay = input.readInt();
+                int length = input.readInt();
+                if (length > buffer.length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                input.readFully(buffer, 0, length);
+                String description = new String(buffer, 0, length, StandardCharsets.UTF_8);
+                tasks.add(createTask(type, description, epochDay, isCompleted));
+            }
+            return new Snapshot(coveredSegment, tasks);
+        }
+    }
+
+    private static byte getTypeByte(Task task) {
+        if (task instanceof Deadline) {
+            return 'D';
+        } else if (task instanceof Event) {
+            return 'E';
+        } else {
+            return 'T';
+        }
+    }
+
+    private static Task createTask(char type, String description, int epochDay,
+                                   boolean isCompleted) throws DukeException {
+        switch (type) {
+        case 'T':
+            return new ToDo(description, isCompleted);
+        case 'D':
+            return new Deadline(description, LocalDate.ofEpochDay(epochDay), isCompleted);
+        case 'E':
+            return new Event(description, LocalDate.ofEpochDay(epochDay), isCompleted);
+        default:
+            throw new DukeException("Invalid task.");
+        }
+    }
+}
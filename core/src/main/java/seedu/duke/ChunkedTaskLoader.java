@@ -0,0 +1,206 @@
+package seedu.duke;
+
+import seedu.duke.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Loads tasks from a text file by memory-mapping it and parsing chunks of
+ * lines in parallel on a fork-join pool. Chunks always end at a line boundary,
+ * and the parsed chunks are merged back in file order.
+ *
+ * <p>A mapped file stays mapped until the buffer is garbage collected, and
+ * Windows refuses to replace a file that is still mapped, which would make the
+ * next snapshot fail to move over the data file. On Windows the file is read
+ * into memory instead, and only the parsing is done in parallel.
+ */
+final class ChunkedTaskLoader {
+    private static final int MIN_CHUNK_BYTES = 1 << 18;
+    private static final boolean IS_MAPPING_SAFE = !System.getProperty("os.name", "").startsWith("Windows");
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Parses a single line of the file into a task.
+     * Implementations are called from several threads at once.
+     */
+    interface LineParser {
+        Task parse(String line) throws DukeException;
+    }
+
+    /**
+     * Thrown from inside the pool so that the parse error can be rethrown to the caller.
+     */
+    private static class ParseFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ParseFailure(DukeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized DukeException getCause() {
+            return (DukeException) super.getCause();
+        }
+    }
+
+    /**
+     * Parses the chunks numbered from <code>first</code> to <code>last</code>,
+     * splitting the range in half until a single chunk is left.
+     */
+    private static class ParseChunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ByteBuffer buffer;
+        private final long[] boundaries;
+        private final ArrayList<Task>[] results;
+        private final LineParser parser;
+        private final int first;
+        private final int last;
+
+        ParseChunks(ByteBuffer buffer, long[] boundaries, ArrayList<Task>[] results,
+                    LineParser parser, int first, int last) {
+            this.buffer = buffer;
+            this.boundaries = boundaries;
+            this.results = results;
+            this.parser = parser;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (first == last) {
+                results[first] = parseChunk(buffer, (int) boundaries[first],
+                        (int) boundaries[first + 1], parser);
+                return;
+            }
+            int middle = (first + last) >>> 1;
+            invokeAll(new ParseChunks(buffer, boundaries, results, parser, first, middle),
+                    new ParseChunks(buffer, boundaries, results, parser, middle + 1, last));
+        }
+    }
+
+    private ChunkedTaskLoader() {
+    }
+
+    /**
+     * Returns the tasks in the given file, in the order they are listed.
+     * Blank lines and lines starting with <code>#</code> are skipped.
+     *
+     * @param file The file to be loaded.
+     * @param parser The parser for each line of the file.
+     * @return The tasks in the file.
+     * @throws DukeException If any line cannot be parsed.
+     */
+    static ArrayList<Task> load(File file, LineParser parser) throws IOException, DukeException {
+        return load(file, parser, MIN_CHUNK_BYTES);
+    }
+
+    /**
+     * Returns the tasks in the given file, splitting it into chunks of at least
+     * the given size. Small chunks let tests cover many chunks with a small file.
+     */
+    static ArrayList<Task> load(File file, LineParser parser, int minChunkBytes)
+            throws IOException, DukeException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new DukeException("File is too large to be loaded.");
+            }
+            ByteBuffer buffer = IS_MAPPING_SAFE
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            long[] boundaries = findChunkBoundaries(buffer, (int) size, minChunkBytes);
+
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            ArrayList<Task>[] results = new ArrayList[boundaries.length - 1];
+            ParseChunks parseAll = new ParseChunks(buffer, boundaries, results, parser,
+                    0, results.length - 1);
+            if (results.length == 1) {
+                // Not worth handing a small file over to the pool.
+                parseAll.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(parseAll);
+            }
+
+            int count = 0;
+            for (ArrayList<Task> result : results) {
+                count += result.size();
+            }
+            ArrayList<Task> tasks = new ArrayList<>(count);
+            for (ArrayList<Task> result : results) {
+                tasks.addAll(result);
+            }
+            return tasks;
+        } catch (ParseFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Splits the file into roughly equal chunks, moving each boundary
+     * forward to just after the next line break.
+     */
+    static long[] findChunkBoundaries(ByteBuffer buffer, int size, int minChunkBytes) {
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        int chunks = Math.max(1, Math.min(parallelism * CHUNKS_PER_THREAD, size / minChunkBytes));
+        long[] boundaries = new long[chunks + 1];
+        int count = 1;
+        for (int i = 1; i < chunks; i++) {
+            int boundary = Math.max((int) ((long) size * i / chunks), (int) boundaries[count - 1]);
+            while (boundary < size && buffer.get(boundary) != '\n') {
+                boundary++;
+            }
+            if (boundary + 1 < size && boundary + 1 > boundaries[count - 1]) {
+                boundaries[count++] = boundary + 1;
+            }
+        }
+        boundaries[count++] = size;
+        long[] trimmed = new long[count];
+        System.arraycopy(boundaries, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    private static ArrayList<Task> parseChunk(ByteBuffer buffer, int start, int end,
+                                              LineParser parser) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        byte[] line = new byte[256];
+        int position = start;
+        while (position < end) {
+            int lineEnd = position;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - position;
+            if (length > 0 && buffer.get(lineEnd - 1) == '\r') {
+                length--;
+            }
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                line[i] = buffer.get(position + i);
+            }
+            position = lineEnd + 1;
+
+            if (length == 0 || line[0] == '#') {
+                continue;
+            }
+            try {
+                tasks.add(parser.parse(new String(line, 0, length, StandardCharsets.UTF_8)));
+            } catch (DukeException e) {
+                throw new ParseFailure(e);
+            }
+        }
+        return tasks;
+    }
+}
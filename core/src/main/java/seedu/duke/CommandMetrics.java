@@ -0,0 +1,214 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many commands of each type are run and how long each phase of
+ * running them takes. Latencies go into histograms with one bucket per power
+ * of two nanoseconds, so recording only increments a few counters, and
+ * percentiles are reported as the upper bound of their bucket.
+ * Not thread-safe; commands are only run by one thread at a time.
+ */
+final class CommandMetrics {
+    private static final int BUCKETS = 64;
+
+    /**
+     * Represents the phases of running a command.
+     * Storage writes made while executing, such as log appends, count towards execution;
+     * persisting is recording the history and checkpointing the storage afterwards.
+     */
+    enum Phase {
+        PARSE, EXECUTE, INDEX, PERSIST
+    }
+
+    private final IdentityHashMap<Class<?>, CommandStats> stats = new IdentityHashMap<>();
+    private long parseErrors = 0;
+
+    /**
+     * Counts and latency histograms of one type of command.
+     */
+    private static class CommandStats {
+        private final String name;
+        private final Histogram[] phases = new Histogram[Phase.values().length];
+        private long count = 0;
+        private long failures = 0;
+
+        private CommandStats(String name) {
+            this.name = name;
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new Histogram();
+            }
+        }
+    }
+
+    /**
+     * Histogram of latencies, with bucket <code>i</code> counting latencies below
+     * <code>2^i</code> nanoseconds and at least half of that.
+     */
+    private static class Histogram {
+        private final long[] buckets = new long[BUCKETS];
+        private long count = 0;
+        private long totalNanos = 0;
+        private long maxNanos = 0;
+
+        private void record(long nanos) {
+            buckets[BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 0))]++;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the given percentile.
+         */
+        private long percentile(double percentile) {
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(1L << i, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        private long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+
+    /**
+     * Records the time taken by each phase of a command.
+     *
+     * @param command The command that was run.
+     * @param phaseNanos Nanoseconds taken by each phase, in the order of {@link Phase}.
+     */
+    void record(Command command, long... phaseNanos) {
+        assert phaseNanos.length == Phase.values().length : "One time for each phase.";
+        CommandStats commandStats = statsOf(command);
+        commandStats.count++;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            commandStats.phases[i].record(phaseNanos[i]);
+        }
+    }
+
+    /**
+     * Records a command that failed while executing. Only the parse and execute
+     * phases are recorded, since the later phases were not run.
+     *
+     * @param command The command that failed.
+     * @param parseNanos Nanoseconds taken to parse the command.
+     * @param executeNanos Nanoseconds taken until the command failed.
+     */
+    void recordFailure(Command command, long parseNanos, long executeNanos) {
+        CommandStats commandStats = statsOf(command);
+        commandStats.count++;
+        commandStats.failures++;
+        commandStats.phases[Phase.PARSE.ordinal()].record(parseNanos);
+        commandStats.phases[Phase.EXECUTE.ordinal()].record(executeNanos);
+    }
+
+    private CommandStats statsOf(Command command) {
+        return stats.computeIfAbsent(command.getClass(), type -> new CommandStats(type.getSimpleName()));
+    }
+
+    /**
+     * Counts an input that could not be parsed into a command.
+     */
+    void recordParseError() {
+        parseErrors++;
+    }
+
+    private List<CommandStats> sortedStats() {
+        List<CommandStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort(Comparator.comparing(commandStats -> commandStats.name));
+        return sorted;
+    }
+
+    /**
+     * Returns a table of the commands run and the mean and 99th percentile
+     * latency of each phase, in microseconds.
+     *
+     * @return String representation of the metrics.
+     */
+    String render() {
+        if (stats.isEmpty() && parseErrors == 0) {
+            return "No commands have been recorded yet.";
+        }
+        StringBuilder table = new StringBuilder("Latency in microseconds, as mean/p99:\n");
+        for (CommandStats commandStats : sortedStats()) {
+            table.append(String.format("%4s%s x%d", " ", commandStats.name, commandStats.count));
+            if (commandStats.failures > 0) {
+                table.append(String.format(" (%d failed)", commandStats.failures));
+            }
+            table.append(" |");
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = commandStats.phases[phase.ordinal()];
+                table.append(String.format(" %s %d/%d", phase.name().toLowerCase(),
+                        TimeUnit.NANOSECONDS.toMicros(histogram.meanNanos()),
+                        TimeUnit.NANOSECONDS.toMicros(histogram.percentile(0.99))));
+            }
+            table.append('\n');
+        }
+        table.append(String.format("%4sInvalid commands: %d", " ", parseErrors));
+        return table.toString();
+    }
+
+    /**
+     * Writes every count and histogram to the file as JSON, with latencies in nanoseconds.
+     *
+     * @param file The file to write to.
+     */
+    void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(String.format("{\"parseErrors\": %d, \"commands\": {", parseErrors));
+            String separator = "\n";
+            for (CommandStats commandStats : sortedStats()) {
+                writer.write(String.format("%s  \"%s\": {\"count\": %d, \"failures\": %d, \"phases\": {",
+                        separator, commandStats.name, commandStats.count, commandStats.failures));
+                String phaseSeparator = "";
+                for (Phase phase : Phase.values()) {
+                    writer.write(phaseSeparator);
+                    writeHistogram(writer, phase.name().toLowerCase(), commandStats.phases[phase.ordinal()]);
+                    phaseSeparator = ", ";
+                }
+                writer.write("}}");
+                separator = ",\n";
+            }
+            writer.write("\n}}\n");
+        }
+    }
+
+    private static void writeHistogram(BufferedWriter writer, String name, Histogram histogram)
+            throws IOException {
+        writer.write(String.format("\"%s\": {\"count\": %d, \"totalNanos\": %d, \"maxNanos\": %d, "
+                        + "\"p50Nanos\": %d, \"p90Nanos\": %d, \"p99Nanos\": %d, \"buckets\": [",
+                name, histogram.count, histogram.totalNanos, histogram.maxNanos,
+                histogram.percentile(0.5), histogram.percentile(0.9), histogram.percentile(0.99)));
+        // Trailing empty buckets are left out.
+        int last = BUCKETS - 1;
+        while (last >= 0 && histogram.buckets[last] == 0) {
+            last--;
+        }
+        for (int i = 0; i <= last; i++) {
+            writer.write(i == 0 ? "" : ", ");
+            writer.write(Long.toString(histogram.buckets[i]));
+        }
+        writer.write("]}");
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.command.HelpCommand;
+
+import java.util.ArrayList;
+
+/**
+ * Holds the commands Duke understands. Each command is registered once with
+ * its keyword, any aliases, its usage and the parser for its arguments.
+ * Command words are looked up in a trie straight from the user input, and the
+ * help text listing every usage is rendered once when it is first needed.
+ */
+final class CommandRegistry {
+    private final Node root = new Node();
+    private final ArrayList<String> usages = new ArrayList<>();
+    private String helpText;
+
+    /**
+     * Parses the arguments of a command, read from the tokenizer after the
+     * command word, into the command.
+     */
+    interface CommandParser {
+        Command parse(CommandTokenizer tokenizer) throws DukeException;
+    }
+
+    /**
+     * Represents a node of the trie, reached by the characters of a command word
+     * read so far. Children are kept in small parallel arrays, since few
+     * command words share a prefix.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private CommandParser parser;
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node addChild(char key) {
+            Node child = child(key);
+            if (child != null) {
+                return child;
+            }
+            child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, keys.length);
+            System.arraycopy(children, 0, newChildren, 0, children.length);
+            newKeys[keys.length] = key;
+            newChildren[children.length] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+
+    /**
+     * Registers a command under its keyword and aliases.
+     *
+     * @param keyword The word that starts the command.
+     * @param usage The usage of the command, listed in the help text.
+     * @param parser The parser for the arguments of the command.
+     * @param aliases Other words that start the same command.
+     */
+    void register(String keyword, String usage, CommandParser parser, String... aliases) {
+        insert(keyword, parser);
+        for (String alias : aliases) {
+            insert(alias, parser);
+        }
+        usages.add(usage);
+        helpText = null;
+    }
+
+    /**
+     * Returns the parser of the command whose word is in the given part of the text,
+     * or null if there is no such command.
+     *
+     * @param text The text holding the command word.
+     * @param start Index of the first character of the command word.
+     * @param end Index just after the last character of the command word.
+     * @return The parser of the command.
+     */
+    CommandParser find(CharSequence text, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(text.charAt(i));
+        }
+        return node == null ? null : node.parser;
+    }
+
+    /**
+     * Returns the help text listing the usage of every registered command.
+     *
+     * @return String representation of the available commands.
+     */
+    String getHelpText() {
+        if (helpText == null) {
+            helpText = HelpCommand.render(usages);
+        }
+        return helpText;
+    }
+
+    private void insert(String word, CommandParser parser) {
+        assert !word.isEmpty() : "Command words are not empty.";
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.addChild(word.charAt(i));
+        }
+        assert node.parser == null : "Command words are registered once.";
+        node.parser = parser;
+    }
+}
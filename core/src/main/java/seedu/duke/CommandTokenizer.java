@@ -0,0 +1,183 @@
+package seedu.duke;
+
+import java.time.LocalDate;
+
+/**
+ * Splits user input into space separated tokens in a single pass.
+ * A <code>CommandTokenizer</code> only moves a cursor over the input and
+ * records where the current token starts and ends, so no strings or arrays
+ * are created unless an argument is taken out with {@link #token()} or
+ * {@link #rest()}. One tokenizer is reset and reused for every command.
+ */
+final class CommandTokenizer {
+    private static final int MAX_NUMBER_DIGITS = 9;
+
+    private String input = "";
+    private int end = 0;
+    private int position = 0;
+    private int tokenStart = 0;
+    private int tokenEnd = 0;
+
+    /**
+     * Starts reading the given input from its beginning.
+     * Trailing whitespace is ignored.
+     *
+     * @param input The user input.
+     */
+    void reset(String input) {
+        this.input = input;
+        end = input.length();
+        while (end > 0 && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        position = 0;
+        tokenStart = 0;
+        tokenEnd = 0;
+    }
+
+    /**
+     * Moves on to the next token, skipping the spaces before it.
+     *
+     * @return false if there are no more tokens.
+     */
+    boolean nextToken() {
+        while (position < end && input.charAt(position) == ' ') {
+            position++;
+        }
+        if (position >= end) {
+            return false;
+        }
+        tokenStart = position;
+        while (position < end && input.charAt(position) != ' ') {
+            position++;
+        }
+        tokenEnd = position;
+        return true;
+    }
+
+    /**
+     * Checks if there is another token after the current one.
+     *
+     * @return true if there is another token.
+     */
+    boolean hasNextToken() {
+        int next = position;
+        while (next < end && input.charAt(next) == ' ') {
+            next++;
+        }
+        return next < end;
+    }
+
+    boolean isToken(String word) {
+        return tokenEnd - tokenStart == word.length()
+                && input.regionMatches(tokenStart, word, 0, word.length());
+    }
+
+    String getInput() {
+        return input;
+    }
+
+    int getTokenStart() {
+        return tokenStart;
+    }
+
+    int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns a copy of the current token.
+     *
+     * @return The current token.
+     */
+    String token() {
+        return input.substring(tokenStart, tokenEnd);
+    }
+
+    /**
+     * Returns the input after the current token, without surrounding whitespace.
+     *
+     * @return The rest of the input.
+     */
+    String rest() {
+        return strip(position, end);
+    }
+
+    /**
+     * Returns the current token as a number, or -1 if it is not a number.
+     *
+     * @return The number in the current token.
+     */
+    int tokenAsNumber() {
+        int length = tokenEnd - tokenStart;
+        if (length == 0 || length > MAX_NUMBER_DIGITS) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns the current token as a <code>d/MM/yyyy</code> date, or null if it is not a date.
+     *
+     * @return The date in the current token.
+     */
+    LocalDate tokenAsDate() {
+        return DateScanner.scan(input, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the marker after the current token,
+     * or -1 if there is none.
+     *
+     * @param marker The text to look for.
+     * @return Index of the marker in the input.
+     */
+    int findLast(String marker) {
+        int index = input.lastIndexOf(marker, end - marker.length());
+        return index >= position ? index : -1;
+    }
+
+    /**
+     * Returns the date written from the given index to the end of the input,
+     * or null if it is not a <code>d/MM/yyyy</code> date.
+     *
+     * @param start Index of the first character of the date.
+     * @return The date at the end of the input.
+     */
+    LocalDate dateFrom(int start) {
+        return DateScanner.scan(input, start, end);
+    }
+
+    /**
+     * Returns the input from the end of the current token to the given index,
+     * without surrounding whitespace.
+     *
+     * @param to Index just after the last character to return.
+     * @return The input up to the index.
+     */
+    String restUntil(int to) {
+        return strip(position, to);
+    }
+
+    private String strip(int from, int to) {
+        while (from < to && Character.isWhitespace(input.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(input.charAt(to - 1))) {
+            to--;
+        }
+        return input.substring(from, to);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.duke;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Reads dates written as <code>d/MM/yyyy</code> straight from the user input.
+ * Unlike parsing with a <code>DateTimeFormatter</code>, nothing is allocated
+ * and no exception is thrown when the text is not a date.
+ */
+final class DateScanner {
+    private static final int MAX_DAY_DIGITS = 2;
+    private static final int MONTH_DIGITS = 2;
+    private static final int MIN_YEAR_DIGITS = 4;
+    private static final int MAX_YEAR_DIGITS = 9;
+
+    private DateScanner() {
+    }
+
+    /**
+     * Returns the date written in the given part of the text, or null if it is not
+     * a valid date. As with the <code>d/MM/yyyy</code> formatter, a day past the end
+     * of the month but no later than the 31st is moved back to the last day of the month.
+     *
+     * @param text The text holding the date.
+     * @param start Index of the first character of the date.
+     * @param end Index just after the last character of the date.
+     * @return The date, or null if there is none.
+     */
+    static LocalDate scan(CharSequence text, int start, int end) {
+        int dayEnd = scanDigits(text, start, end, MAX_DAY_DIGITS);
+        if (dayEnd == start || !isSlash(text, dayEnd, end)) {
+            return null;
+        }
+        int monthStart = dayEnd + 1;
+        int monthEnd = scanDigits(text, monthStart, end, MONTH_DIGITS);
+        if (monthEnd - monthStart != MONTH_DIGITS || !isSlash(text, monthEnd, end)) {
+            return null;
+        }
+        int yearStart = monthEnd + 1;
+        int yearEnd = scanDigits(text, yearStart, end, MAX_YEAR_DIGITS);
+        if (yearEnd != end || yearEnd - yearStart < MIN_YEAR_DIGITS) {
+            return null;
+        }
+
+        int day = readNumber(text, start, dayEnd);
+        int month = readNumber(text, monthStart, monthEnd);
+        int year = readNumber(text, yearStart, yearEnd);
+        if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1) {
+            return null;
+        }
+        int lastDay = Month.of(month).length(Year.isLeap(year));
+        return LocalDate.of(year, month, Math.min(day, lastDay));
+    }
+
+    /**
+     * Returns the index just after the digits starting at <code>start</code>,
+     * reading no more than the given number of digits.
+     */
+    private static int scanDigits(CharSequence text, int start, int end, int maxDigits) {
+        int position = start;
+        while (position < end && position - start < maxDigits && isDigit(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int readNumber(CharSequence text, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (text.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isSlash(CharSequence text, int position, int end) {
+        return position < end && text.charAt(position) == '/';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
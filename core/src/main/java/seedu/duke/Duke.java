@@ -0,0 +1,717 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.command.DeadlineCommand;
+import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.DoneCommand;
+import seedu.duke.command.EventCommand;
+import seedu.duke.command.ExitCommand;
+import seedu.duke.command.FindCommand;
+import seedu.duke.command.GetCommand;
+import seedu.duke.command.HelpCommand;
+import seedu.duke.command.ListCommand;
+import seedu.duke.command.RedoCommand;
+import seedu.duke.command.ReminderCommand;
+import seedu.duke.command.StatsCommand;
+import seedu.duke.command.StatusCommand;
+import seedu.duke.command.ToDoCommand;
+import seedu.duke.command.UndoCommand;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+import seedu.duke.jfr.CommandEvent;
+import seedu.duke.jfr.IndexUpdateEvent;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.TaskListHistory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Represents a chatbot for organising user tasks and to do list.
+ * A <code>Duke</code> object takes in user commands and updates the
+ * user's tasks.
+ */
+public class Duke {
+    /**
+     * Represents a parser for interpreting user inputs.
+     * A <code>Parser</code> object takes in user inputs and
+     * interprets it to Duke to execute relevant tasks.
+     */
+
+    private class Parser {
+        private static final String UNKNOWN_COMMAND_MESSAGE =
+                "☹ OOPS!!! I'm sorry, but I don't know what that means :-(";
+        private static final String EMPTY_DESCRIPTION_MESSAGE = "☹ OOPS!!! The description of a %s cannot be empty.";
+
+        private final CommandTokenizer tokenizer = new CommandTokenizer();
+        private final CommandRegistry registry = new CommandRegistry();
+        private LocalDate date = LocalDate.now();
+        private TaskList previousTaskList;
+
+        /**
+         * Nanoseconds taken to parse the last command, when metrics are recorded.
+         */
+        private long parseNanos = 0;
+
+        /**
+         * Registers every command Duke understands. A new command only needs to be registered here.
+         */
+        private Parser() {
+            registry.register("bye", ExitCommand.USAGE,
+                    withoutArguments(() -> new ExitCommand(ui, taskList, storage)));
+            registry.register("list", ListCommand.USAGE,
+                    withoutArguments(() -> new ListCommand(ui, taskList)));
+            registry.register("todo", ToDoCommand.USAGE,
+                    withArguments(String.format(EMPTY_DESCRIPTION_MESSAGE, "TODO"), tokens ->
+                            new ToDoCommand(ui, taskList, tokens.rest(), storage)));
+            registry.register("deadline", DeadlineCommand.USAGE,
+                    withArguments(String.format(EMPTY_DESCRIPTION_MESSAGE, "DEADLINE"), tokens -> {
+                        String description = parseDescriptionWithDate("/by ");
+                        return new DeadlineCommand(ui, taskList, description, date, storage);
+                    }));
+            registry.register("event", EventCommand.USAGE,
+                    withArguments(String.format(EMPTY_DESCRIPTION_MESSAGE, "EVENT"), tokens -> {
+                        String description = parseDescriptionWithDate("/at ");
+                        return new EventCommand(ui, taskList, description, date, storage);
+                    }));
+            registry.register("done", DoneCommand.USAGE,
+                    withArguments("Please enter the task index.", tokens ->
+                            new DoneCommand(ui, taskList, parseTaskIndices(), storage)));
+            registry.register("delete", DeleteCommand.USAGE,
+                    withArguments("Please enter the task index.", tokens ->
+                            new DeleteCommand(ui, taskList, parseTaskIndices(), storage)));
+            registry.register("get", GetCommand.USAGE,
+                    withArguments("Please enter a date in dd/MM/yyyy format.", tokens -> parseGet()));
+            registry.register("find", FindCommand.USAGE,
+                    withArguments("Please enter keyword to search for.", tokens -> parseFind()));
+            registry.register("remind", ReminderCommand.USAGE,
+                    withoutArguments(() -> new ReminderCommand(ui, taskList, dateIndex)), "reminder");
+            registry.register("undo", UndoCommand.USAGE,
+                    withoutArguments(() -> new UndoCommand(ui, taskList, history, storage)));
+            registry.register("redo", RedoCommand.USAGE,
+                    withoutArguments(() -> new RedoCommand(ui, taskList, history, storage)));
+            registry.register("status", StatusCommand.USAGE,
+                    withoutArguments(() -> new StatusCommand(ui, taskList, history)));
+            registry.register("stats", StatsCommand.USAGE,
+                    withoutArguments(() -> new StatsCommand(ui, taskList, Duke.this::renderMetrics)));
+            registry.register("help", HelpCommand.USAGE,
+                    withoutArguments(() -> new HelpCommand(ui, taskList, registry.getHelpText())));
+        }
+
+        private Command parseString(String userInput) throws DukeException {
+            if (metrics == null) {
+                return parseCommand(userInput);
+            }
+            long start = System.nanoTime();
+            try {
+                Command command = parseCommand(userInput);
+                parseNanos = System.nanoTime() - start;
+                return command;
+            } catch (DukeException e) {
+                metrics.recordParseError();
+                throw e;
+            }
+        }
+
+        private Command parseCommand(String userInput) throws DukeException {
+            tokenizer.reset(userInput);
+            tokenizer.nextToken();
+            CommandRegistry.CommandParser commandParser = registry.find(
+                    tokenizer.getInput(), tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+            if (commandParser == null) {
+                throw new DukeException(UNKNOWN_COMMAND_MESSAGE);
+            }
+            return commandParser.parse(tokenizer);
+        }
+
+        private String getHelpText() {
+            return registry.getHelpText();
+        }
+
+        /**
+         * Returns a parser for a command that takes no arguments.
+         */
+        private CommandRegistry.CommandParser withoutArguments(Supplier<Command> command) {
+            return tokens -> {
+                if (tokens.hasNextToken()) {
+                    throw new DukeException("Sorry, I don't know what that means.");
+                }
+                return command.get();
+            };
+        }
+
+        /**
+         * Returns a parser for a command that needs arguments, which fails with
+         * the given message when there are none.
+         */
+        private CommandRegistry.CommandParser withArguments(String missingMessage,
+                                                            CommandRegistry.CommandParser parser) {
+            return tokens -> {
+                if (!tokens.hasNextToken()) {
+                    throw new DukeException(missingMessage);
+                }
+                return parser.parse(tokens);
+            };
+        }
+
+        private Command parseFind() throws DukeException {
+            // The next tokens are "keyword", or "/w" followed by "word"
+            tokenizer.nextToken();
+            if (!tokenizer.isToken(WHOLE_WORD_FLAG)) {
+                return new FindCommand(ui, taskList, searchIndex, tokenizer.token(), false);
+            }
+            if (!tokenizer.nextToken()) {
+                throw new DukeException("Please enter keyword to search for.");
+            }
+            return new FindCommand(ui, taskList, searchIndex, tokenizer.token(), true);
+        }
+
+        private Command parseGetTasksOnDate() throws DukeException {
+            LocalDate today = LocalDate.now();
+            if (tokenizer.isToken(WEEK_RANGE)) {
+                return new GetCommand(ui, taskList, today, today.plusDays(6), dateIndex);
+            }
+            if (tokenizer.isToken(MONTH_RANGE)) {
+                return new GetCommand(ui, taskList, today, today.plusMonths(1).minusDays(1), dateIndex);
+            }
+            LocalDate tasksDate = tokenizer.tokenAsDate();
+            if (tasksDate == null) {
+                throw new DukeException("Invalid date format.");
+            }
+            return new GetCommand(ui, taskList, tasksDate, dateIndex);
+        }
+
+        private Command parseGetTasksBetween() throws DukeException {
+            LocalDate from = tokenizer.tokenAsDate();
+            tokenizer.nextToken();
+            LocalDate to = tokenizer.tokenAsDate();
+            if (from == null || to == null) {
+                throw new DukeException("Invalid date format.");
+            }
+            if (from.isAfter(to)) {
+                throw new DukeException("The first date cannot be after the second date.");
+            }
+            return new GetCommand(ui, taskList, from, to, dateIndex);
+        }
+
+        private Command parseGet() throws DukeException {
+            // The next tokens are "date", "week", "month" or "fromDate" followed by "toDate"
+            tokenizer.nextToken();
+            if (tokenizer.hasNextToken()) {
+                return parseGetTasksBetween();
+            }
+            return parseGetTasksOnDate();
+        }
+
+        private String parseDescriptionWithDate(String command) throws DukeException {
+            assert command.equals("/by ") || command.equals("/at ")
+                    : "Date indicated by /by or /at ";
+
+            int indexOfDate = tokenizer.findLast(command);
+            if (indexOfDate < 0) {
+                throw new DukeException("No date specified for task.");
+            }
+
+            LocalDate parsedDate = tokenizer.dateFrom(indexOfDate + command.length());
+            if (parsedDate == null) {
+                throw new DukeException("Cannot read date.");
+            }
+            this.date = parsedDate;
+            return tokenizer.restUntil(indexOfDate);
+        }
+
+        private int[] parseTaskIndices() throws DukeException {
+            // The next tokens are task numbers and ranges, or "where" "find" followed by the keyword
+            tokenizer.nextToken();
+            if (!tokenizer.isToken(WHERE_CLAUSE)) {
+                return TaskNumberScanner.scan(tokenizer.getInput(), tokenizer.getTokenStart(),
+                        tokenizer.getEnd(), taskList.size());
+            }
+            if (!tokenizer.nextToken() || !tokenizer.isToken(FIND_FILTER) || !tokenizer.hasNextToken()) {
+                throw new DukeException("Please enter a filter, such as: where find <keyword>");
+            }
+            // The keyword is the rest of the input, so that every word of it has to match.
+            String keyword = tokenizer.rest();
+            int[] indices = keyword.length() >= SearchIndex.MIN_SUBSTRING_LENGTH
+                    ? taskList.indicesOf(searchIndex.findSubstring(keyword))
+                    : taskList.findIndicesByKeyword(keyword);
+            if (indices.length == 0) {
+                throw new DukeException("No tasks matches the given keyword.");
+            }
+            return indices;
+        }
+
+        /**
+         * Execute program per the user input parsed.
+         *
+         * @param type The type of Command specifying the action to
+         *             be executed.
+         */
+        private String executeTasks(Command type) throws DukeException {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+            boolean isFailed = true;
+            try {
+                String response = executeAndRecord(type);
+                isFailed = false;
+                return response;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.commandType = type.getClass().getSimpleName();
+                    event.taskCount = taskList.size();
+                    event.isUpdatesTaskList = type.isUpdatesTaskList();
+                    event.isFailed = isFailed;
+                    event.commit();
+                }
+            }
+        }
+
+        private String executeAndRecord(Command type) throws DukeException {
+            if (metrics == null) {
+                String response = execute(type);
+                updateIndices(type);
+                persist(type);
+                return response;
+            }
+
+            long start = System.nanoTime();
+            String response;
+            try {
+                response = execute(type);
+            } catch (DukeException e) {
+                metrics.recordFailure(type, parseNanos, System.nanoTime() - start);
+                throw e;
+            }
+            long executed = System.nanoTime();
+            updateIndices(type);
+            long indexed = System.nanoTime();
+            persist(type);
+            long persisted = System.nanoTime();
+            metrics.record(type, parseNanos, executed - start, indexed - executed, persisted - indexed);
+            return response;
+        }
+
+        private String execute(Command type) throws DukeException {
+            previousTaskList = taskList;
+            return type.execute();
+        }
+
+        private void updateIndices(Command type) {
+            if (!type.isUpdatesTaskList()) {
+                // Commands that do not change the task list leave the indices alone.
+                return;
+            }
+
+            IndexUpdateEvent dateEvent = new IndexUpdateEvent();
+            dateEvent.begin();
+            type.updateDateIndex(dateIndex);
+            commitIndexUpdate(dateEvent, IndexUpdateEvent.DATE_INDEX, type);
+
+            IndexUpdateEvent searchEvent = new IndexUpdateEvent();
+            searchEvent.begin();
+            type.updateSearchIndex(searchIndex);
+            commitIndexUpdate(searchEvent, IndexUpdateEvent.SEARCH_INDEX, type);
+
+            if (taskListListener != null) {
+                type.reportChanges(taskListListener);
+            }
+        }
+
+        private void commitIndexUpdate(IndexUpdateEvent event, String index, Command type) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.index = index;
+                event.commandType = type.getClass().getSimpleName();
+                event.taskCount = type.getTaskList().size();
+                event.commit();
+            }
+        }
+
+        private void persist(Command type) {
+            if (type.isUpdatesTaskList()) {
+                if (type.isRecordedInHistory()) {
+                    history.record(previousTaskList);
+                }
+                taskList = type.getTaskList();
+                if (!isScriptMode) {
+                    storage.checkpoint(taskList);
+                }
+            }
+            isExit = type.isExit();
+        }
+
+    }
+
+    private static final String STORAGE_FORMAT_PROPERTY = "duke.storage.format";
+    private static final String BINARY_FORMAT = "binary";
+    private static final String STORAGE_DURABILITY_PROPERTY = "duke.storage.durability";
+    private static final String HISTORY_DEPTH_PROPERTY = "duke.history.depth";
+    private static final int DEFAULT_HISTORY_DEPTH = 100;
+    private static final String WHOLE_WORD_FLAG = "/w";
+    private static final String WEEK_RANGE = "week";
+    private static final String MONTH_RANGE = "month";
+    private static final String WHERE_CLAUSE = "where";
+    private static final String FIND_FILTER = "find";
+    private static final String SCRIPT_FLAG = "--script";
+    private static final int SCRIPT_BUFFER_SIZE = 1 << 16;
+    private static final int SCRIPT_CHECKPOINT_INTERVAL = 100000;
+    private static final String METRICS_PROPERTY = "duke.metrics";
+    private static final String METRICS_FILE_PROPERTY = "duke.metrics.file";
+    private static final String DEFAULT_METRICS_FILE = "./data/metrics.json";
+    private static final String METRICS_OFF_MESSAGE =
+            "Metrics are off. Start Duke with -D" + METRICS_PROPERTY + "=true to record them.";
+    private static final String DUE_REMINDER_MESSAGE = "Reminder! These tasks are due today:\n";
+
+    /**
+     * Task list to keep track.
+     */
+    private TaskList taskList = new TaskList();
+
+    private boolean isExit = false;
+
+    /**
+     * Whether commands are being run from a script, which saves the task list
+     * at checkpoints instead of after every command.
+     */
+    private boolean isScriptMode = false;
+
+    /**
+     * Whether a valid durability was given on the command line.
+     */
+    private boolean isDurabilityChosen = false;
+
+    private final Ui ui = new Ui();
+    private final Parser parser = new Parser();
+
+    /**
+     * Index of the deadlines and events by date, for looking up tasks by date.
+     */
+    private final DateIndex dateIndex = new DateIndex();
+
+    /**
+     * Index of the words in the tasks, for finding tasks by word.
+     */
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    /**
+     * Earlier versions of the task list that can be restored.
+     */
+    private final TaskListHistory history = new TaskListHistory(
+            Integer.getInteger(HISTORY_DEPTH_PROPERTY, DEFAULT_HISTORY_DEPTH));
+
+    /**
+     * Storage to handle file manipulation.
+     */
+    private final Storage storage = new Storage("./data/duke.text", dateIndex);
+
+    /**
+     * Counts and latencies of the commands run, if recording them was asked for.
+     */
+    private final CommandMetrics metrics = Boolean.getBoolean(METRICS_PROPERTY) ? new CommandMetrics() : null;
+
+    /**
+     * Told of every change to the task list, if set.
+     */
+    private TaskList.Listener taskListListener;
+
+    /**
+     * Reminds the user of deadlines and events as they come due, once started.
+     */
+    private ReminderScheduler reminderScheduler;
+
+    /**
+     * Public constructor for Duke.
+     */
+    public Duke() {
+        String durability = System.getProperty(STORAGE_DURABILITY_PROPERTY);
+        if (durability != null) {
+            // One of every_operation, interval or on_exit.
+            try {
+                storage.setDurability(Storage.Durability.valueOf(durability.toUpperCase()));
+                isDurabilityChosen = true;
+            } catch (IllegalArgumentException e) {
+                System.out.println("Unknown " + STORAGE_DURABILITY_PROPERTY + " \"" + durability
+                        + "\", expected one of " + Arrays.toString(Storage.Durability.values()).toLowerCase()
+                        + ". Using the default durability.");
+            }
+        }
+    }
+
+    /**
+     * Load the existing data to Duke.
+     */
+    public void init() {
+        String directoryPath = "./data";
+
+        File directory = new File(directoryPath);
+        // Check folder exists
+        if (!directory.exists()) {
+            boolean created = directory.mkdirs();
+            if (created) {
+                System.out.println("Successfully created directory.");
+            } else {
+                System.out.println("An error occurred");
+            }
+        }
+
+        taskList = storage.loadData(taskList);
+        searchIndex.rebuild(taskList);
+        if (taskListListener != null) {
+            taskListListener.taskListReset(taskList);
+        }
+
+        // Existing text files are converted when the binary format is requested.
+        if (BINARY_FORMAT.equals(System.getProperty(STORAGE_FORMAT_PROPERTY))) {
+            storage.convertTo(Storage.Format.BINARY, taskList);
+        }
+    }
+
+    /**
+     * Prints Duke's greetings.
+     */
+    protected String getGreeting() {
+        return "Hello! I'm Duke\nWhat can I do for you?";
+    }
+
+    protected DateIndex getDateIndex() {
+        return dateIndex;
+    }
+
+    protected Storage getStorage() {
+        return storage;
+    }
+
+    protected TaskList getTaskList() {
+        return taskList;
+    }
+
+    /**
+     * Parses the input into a command without executing it.
+     *
+     * @param input The user input.
+     * @return The command described by the input.
+     * @throws DukeException If the input is not a valid command.
+     */
+    Command parse(String input) throws DukeException {
+        return parser.parseString(input);
+    }
+
+    protected String getResponse(String input) {
+        try {
+            Command command = parser.parseString(input);
+            String response = parser.executeTasks(command);
+            return response;
+        } catch (DukeException e) {
+            return e.getMessage();
+        }
+    }
+
+    protected String getReminder() {
+        Command reminder = new ReminderCommand(ui, taskList, dateIndex);
+        try {
+            String message = reminder.execute();
+            return message;
+        } catch (DukeException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Starts reminding the user of deadlines and events on the day they come due,
+     * including those due today. Later changes to the tasks are followed.
+     *
+     * @param sink Receives each reminder message, on the scheduler thread.
+     */
+    protected void startReminders(Consumer<String> sink) {
+        reminderScheduler = new ReminderScheduler(Clock.systemDefaultZone(), tasks -> sink.accept(
+                String.format("%s\n%s", DUE_REMINDER_MESSAGE, new TaskList(tasks))));
+        for (Task task : dateIndex.getTasksAfter(LocalDate.now().minusDays(1))) {
+            reminderScheduler.taskAdded(task);
+        }
+        dateIndex.setListener(reminderScheduler);
+        reminderScheduler.start();
+    }
+
+    protected void stopReminders() {
+        if (reminderScheduler != null) {
+            dateIndex.setListener(null);
+            reminderScheduler.stop();
+        }
+    }
+
+    /**
+     * Sets the listener to be told of every later change to the task list.
+     * It is told of the current task list straight away.
+     *
+     * @param listener Listener to be told of the changes, on the thread running the commands.
+     */
+    protected void setTaskListListener(TaskList.Listener listener) {
+        taskListListener = listener;
+        listener.taskListReset(taskList);
+    }
+
+    /**
+     * Returns the metrics recorded so far, after writing them to the metrics file.
+     */
+    private String renderMetrics() {
+        if (metrics == null) {
+            return METRICS_OFF_MESSAGE;
+        }
+        Path file = writeMetrics();
+        String written = file == null ? "" : "\nAlso written to " + file;
+        return metrics.render() + written;
+    }
+
+    /**
+     * Writes the metrics recorded so far to the metrics file, if they are being recorded.
+     *
+     * @return The file written to, or null if nothing was written.
+     */
+    protected Path writeMetrics() {
+        if (metrics == null) {
+            return null;
+        }
+        Path file = Paths.get(System.getProperty(METRICS_FILE_PROPERTY, DEFAULT_METRICS_FILE));
+        try {
+            metrics.writeTo(file);
+            return file;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    protected boolean getExit() {
+        return isExit;
+    }
+
+    /**
+     * Runs the Duke chat bot.
+     */
+    private void run() {
+        // The stored tasks are loaded first, so that they are reminded of and changed.
+        init();
+        // Taking in commands
+        Scanner sc = new Scanner(System.in);
+        startReminders(ui::outputMessage);
+
+        while (true) {
+            String command = sc.nextLine().strip();
+            try {
+                Command type = parser.parseString(command);
+                parser.executeTasks(type);
+                if (type.isExit()) {
+                    break;
+                }
+            } catch (DukeException e) {
+                System.out.println(e.getMessage());
+                ui.divide();
+            }
+        }
+        // Close the scanner if "bye" command is given and
+        // the Duke exits the while loop.
+        sc.close();
+        stopReminders();
+        writeMetrics();
+    }
+
+    /**
+     * Runs the commands in the script, one per line, against the task list in memory.
+     * Replies are written through a single buffered writer, and the task list is
+     * saved every {@value #SCRIPT_CHECKPOINT_INTERVAL} commands and once at the end
+     * rather than after every command. Unless another durability is requested, the
+     * operation log is only synced at the end.
+     *
+     * @param script The file holding the commands.
+     */
+    private void runScript(Path script) {
+        if (!isDurabilityChosen) {
+            storage.setDurability(Storage.Durability.ON_EXIT);
+        }
+        init();
+        isScriptMode = true;
+
+        BufferedWriter output = new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8), SCRIPT_BUFFER_SIZE);
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            String line;
+            long count = 0;
+            while (!isExit && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                output.write(getResponse(line));
+                output.newLine();
+                count++;
+                if (count % SCRIPT_CHECKPOINT_INTERVAL == 0) {
+                    storage.checkpoint(taskList);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            isScriptMode = false;
+            try {
+                storage.rewriteFile(taskList);
+            } catch (DukeException e) {
+                System.out.println(e.getMessage());
+            }
+            storage.close();
+            writeMetrics();
+            try {
+                output.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Main method to execute Duke's functions.
+     * With <code>--script &lt;file&gt;</code>, runs the commands in the file instead.
+     *
+     * @param args Command line arguments.
+     */
+    public static void main(String[] args) {
+        String directoryPath = "./data";
+        String filePath = "./data/duke.text";
+
+        File directory = new File(directoryPath);
+        // Check folder exists
+        if (!directory.exists()) {
+            boolean created = directory.mkdirs();
+            if (created) {
+                System.out.println("Successfully created directory.");
+            } else {
+                System.out.println("An error occurred");
+            }
+        }
+
+        Duke duke = new Duke();
+        if (args.length > 0 && args[0].equals(SCRIPT_FLAG)) {
+            if (args.length < 2) {
+                System.out.println("Please give the script to run: --script <file>");
+                return;
+            }
+            duke.runScript(Paths.get(args[1]));
+            return;
+        }
+        duke.run();
+    }
+}
@@ -0,0 +1,262 @@
+package seedu.duke;
+
+import seedu.duke.jfr.StorageEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends records to the operation log on a background thread.
+ * Records queued while the previous batch was being written are written
+ * together, and the file is synced to disk according to the durability policy.
+ */
+final class LogWriter {
+    private final Path path;
+    private final Storage.Durability durability;
+    private final long syncIntervalMillis;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    private Thread thread;
+    private Thread shutdownHook;
+    private FileChannel channel;
+    private boolean isDirty = false;
+    private long lastSync = System.currentTimeMillis();
+
+    /**
+     * An entry in the queue of the writer. Entries without a record are markers
+     * which ask the writer to rotate, flush or close the log once the records
+     * queued before them have been written.
+     */
+    private static class Entry {
+        private final String record;
+        private final Path rotateTo;
+        private final boolean isClose;
+        private final CompletableFuture<Void> done;
+
+        private Entry(String record, Path rotateTo, boolean isClose, CompletableFuture<Void> done) {
+            this.record = record;
+            this.rotateTo = rotateTo;
+            this.isClose = isClose;
+            this.done = done;
+        }
+    }
+
+    LogWriter(Path path, Storage.Durability durability, long syncIntervalMillis) {
+        this.path = path;
+        this.durability = durability;
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Queues a record to be appended to the log. When every operation has to
+     * be durable, waits until the batch holding the record has been synced.
+     *
+     * @param record The record to be appended, without a line separator.
+     */
+    void append(String record) {
+        boolean isSynchronous = durability == Storage.Durability.EVERY_OPERATION;
+        CompletableFuture<Void> done = isSynchronous ? new CompletableFuture<>() : null;
+        enqueue(new Entry(record + System.lineSeparator(), null, false, done));
+        if (isSynchronous) {
+            done.join();
+        }
+    }
+
+    /**
+     * Moves the log to the given path once every record queued so far has been written.
+     * Later records are appended to a new log.
+     *
+     * @param target The path that the log is moved to.
+     * @return A future that completes once the log has been moved.
+     */
+    synchronized CompletableFuture<Void> rotate(Path target) {
+        if (thread == null) {
+            rotateFile(target);
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        enqueue(new Entry(null, target, false, done));
+        return done;
+    }
+
+    /**
+     * Waits until every record queued so far has been written and synced.
+     */
+    void flush() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        enqueue(new Entry(null, null, false, done));
+        done.join();
+    }
+
+    /**
+     * Writes and syncs every queued record, then stops the background thread.
+     * Records appended afterwards start a new thread.
+     */
+    synchronized void close() {
+        if (thread == null) {
+            return;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(new Entry(null, null, true, done));
+        done.join();
+        try {
+            thread.join();
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            // The hook is already running as the virtual machine shuts down.
+        }
+        thread = null;
+    }
+
+    private synchronized void enqueue(Entry entry) {
+        if (thread == null) {
+            thread = new Thread(this::run, "storage-log-writer");
+            thread.setDaemon(true);
+            thread.start();
+            shutdownHook = new Thread(this::close);
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        queue.add(entry);
+    }
+
+    private void run() {
+        ArrayList<Entry> batch = new ArrayList<>();
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        boolean isClosing = false;
+        while (!isClosing) {
+            try {
+                Entry first = pollNext();
+                if (first == null) {
+                    sync();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                isClosing = batch.stream().anyMatch(entry -> entry.isClose);
+
+                for (Entry entry : batch) {
+                    if (entry.record != null) {
+                        pending.writeBytes(entry.record.getBytes(StandardCharsets.UTF_8));
+                        continue;
+                    }
+                    write(pending);
+                    if (entry.rotateTo != null) {
+                        rotateFile(entry.rotateTo);
+                    } else {
+                        sync();
+                    }
+                    if (entry.isClose) {
+                        closeChannel();
+                        break;
+                    }
+                }
+                write(pending);
+                boolean isSyncDue = System.currentTimeMillis() - lastSync >= syncIntervalMillis;
+                if (durability == Storage.Durability.EVERY_OPERATION
+                        || (durability == Storage.Durability.INTERVAL && isSyncDue)) {
+                    sync();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (InterruptedException e) {
+                return;
+            }
+            completeAll(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits for the next entry. Under the interval policy, gives up once
+     * unsynced records are due to be synced so that they can be synced.
+     */
+    private Entry pollNext() throws InterruptedException {
+        if (durability != Storage.Durability.INTERVAL || !isDirty) {
+            return queue.take();
+        }
+        long wait = lastSync + syncIntervalMillis - System.currentTimeMillis();
+        return queue.poll(Math.max(wait, 0), TimeUnit.MILLISECONDS);
+    }
+
+    private void write(ByteArrayOutputStream pending) throws IOException {
+        if (pending.size() == 0) {
+            return;
+        }
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = StorageEvent.APPEND;
+            event.bytesWritten = buffer.limit();
+            event.commit();
+        }
+        pending.reset();
+        isDirty = true;
+    }
+
+    private void sync() throws IOException {
+        if (channel != null && isDirty) {
+            StorageEvent event = new StorageEvent();
+            event.begin();
+            long start = System.nanoTime();
+            channel.force(false);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = StorageEvent.SYNC;
+                event.syncNanos = System.nanoTime() - start;
+                event.commit();
+            }
+        }
+        isDirty = false;
+        lastSync = System.currentTimeMillis();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void rotateFile(Path target) {
+        try {
+            sync();
+            closeChannel();
+            if (Files.exists(path)) {
+                Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void completeAll(ArrayList<Entry> batch) {
+        for (Entry entry : batch) {
+            if (entry.done != null) {
+                entry.done.complete(null);
+            }
+        }
+    }
+}
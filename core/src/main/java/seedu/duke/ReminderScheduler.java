@@ -0,0 +1,201 @@
+package seedu.duke;
+
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.Task;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reminds the user of deadlines and events on the day they come due.
+ * Upcoming tasks are kept in a priority queue ordered by date, which follows
+ * the date index as tasks are added, completed and deleted. A background thread
+ * sleeps until the start of the earliest day in the queue, and is only woken
+ * early when a task due before that day is added.
+ */
+final class ReminderScheduler implements DateIndex.Listener {
+    private static final int MIN_QUEUE_TO_PURGE = 64;
+
+    private final Clock clock;
+    private final Consumer<List<Task>> listener;
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>();
+    private final IdentityHashMap<Task, Reminder> reminders = new IdentityHashMap<>();
+
+    /**
+     * Tasks already reminded of on {@link #remindedDay}, which are not reminded of
+     * again when the date index is rebuilt, such as after an undo.
+     */
+    private final Set<Task> remindedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long remindedDay;
+
+    private Thread thread;
+
+    /**
+     * A task waiting to come due. Removed tasks are cancelled rather than taken
+     * out of the queue, and are dropped once they reach the head of the queue.
+     */
+    private static class Reminder implements Comparable<Reminder> {
+        private final Task task;
+        private final long epochDay;
+        private boolean isCancelled = false;
+
+        private Reminder(Task task, long epochDay) {
+            this.task = task;
+            this.epochDay = epochDay;
+        }
+
+        @Override
+        public int compareTo(Reminder other) {
+            return Long.compare(epochDay, other.epochDay);
+        }
+    }
+
+    /**
+     * Constructor for a <code>ReminderScheduler</code>.
+     *
+     * @param clock The clock deciding which day it is.
+     * @param listener Receives the tasks coming due on a day, on the scheduler thread.
+     */
+    ReminderScheduler(Clock clock, Consumer<List<Task>> listener) {
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    /**
+     * Schedules a reminder for the task, unless it is completed or already past.
+     *
+     * @param task The task to be reminded of.
+     */
+    @Override
+    public synchronized void taskAdded(Task task) {
+        long epochDay = task.getDate().toEpochDay();
+        long today = today();
+        boolean isReminded = epochDay == remindedDay && remindedDay == today && remindedTasks.contains(task);
+        if (task.isCompleted() || epochDay < today || reminders.containsKey(task) || isReminded) {
+            return;
+        }
+        Reminder reminder = new Reminder(task, epochDay);
+        Reminder head = peekNext();
+        reminders.put(task, reminder);
+        queue.add(reminder);
+        if (head == null || epochDay < head.epochDay) {
+            // The thread is waiting for a later day than this one.
+            notifyAll();
+        }
+    }
+
+    /**
+     * Cancels the reminder for the task, if there is one.
+     *
+     * @param task The task that no longer needs a reminder.
+     */
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        Reminder reminder = reminders.remove(task);
+        if (reminder != null) {
+            reminder.isCancelled = true;
+        }
+        // Clear out cancelled reminders once they make up most of the queue.
+        if (queue.size() > 2 * reminders.size() + MIN_QUEUE_TO_PURGE) {
+            queue.removeIf(entry -> entry.isCancelled);
+        }
+    }
+
+    /**
+     * Starts the background thread delivering reminders.
+     */
+    synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "reminder-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the background thread. Reminders that have not come due are kept.
+     */
+    synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    synchronized int size() {
+        return reminders.size();
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Task> dueTasks = awaitDueTasks();
+                listener.accept(dueTasks);
+            }
+        } catch (InterruptedException e) {
+            // Stopped while waiting.
+        }
+    }
+
+    /**
+     * Waits until the earliest reminder in the queue comes due, then takes
+     * every reminder due by then out of the queue.
+     */
+    private synchronized List<Task> awaitDueTasks() throws InterruptedException {
+        while (true) {
+            Reminder head = peekNext();
+            if (head == null) {
+                wait();
+                continue;
+            }
+            long delay = startOfDay(head.epochDay) - clock.millis();
+            if (delay > 0) {
+                wait(delay);
+                continue;
+            }
+            ArrayList<Task> dueTasks = new ArrayList<>();
+            long today = today();
+            if (remindedDay != today) {
+                remindedTasks.clear();
+                remindedDay = today;
+            }
+            while (!queue.isEmpty() && queue.peek().epochDay <= today) {
+                Reminder reminder = queue.poll();
+                if (!reminder.isCancelled) {
+                    reminders.remove(reminder.task);
+                    remindedTasks.add(reminder.task);
+                    dueTasks.add(reminder.task);
+                }
+            }
+            if (!dueTasks.isEmpty()) {
+                return dueTasks;
+            }
+        }
+    }
+
+    /**
+     * Returns the earliest reminder that is not cancelled, dropping cancelled ones on the way.
+     */
+    private Reminder peekNext() {
+        while (!queue.isEmpty() && queue.peek().isCancelled) {
+            queue.poll();
+        }
+        return queue.peek();
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private long startOfDay(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,690 @@
+package seedu.duke;
+
+import seedu.duke.index.DateIndex;
+import seedu.duke.jfr.StorageEvent;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.ToDo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Represents a Storage object. A <code>Storage</code> object
+ * loads data from the file according to the filepath given
+ * and handles any updates to the file.
+ * Updates are appended to an operation log next to the file,
+ * which is replayed on top of the file contents when loading.
+ * Once the log grows past a threshold, it is rotated into a numbered
+ * segment and a compacted snapshot of the task list is written to the file
+ * in the background, after which the covered segments are deleted.
+ * Snapshots are written either as text or in the binary format
+ * of {@link BinaryTaskFormat}. Log records are written by a background
+ * {@link LogWriter}, which syncs them according to the durability policy.
+ */
+public class Storage {
+    private static final String LOG_SUFFIX = ".log";
+    private static final String ADD_RECORD = "add";
+    private static final String DONE_RECORD = "done";
+    private static final String DELETE_RECORD = "delete";
+    private static final String SNAPSHOT_HEADER = "# snapshot ";
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+    private static final long DEFAULT_MAX_LOG_BYTES = 1024 * 1024;
+    private static final int DESCRIPTION_START = "[T][ ] ".length();
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+    private String filePath;
+    private String logPath;
+    private DateIndex dateIndex;
+
+    private final int snapshotInterval;
+    private final long maxLogBytes;
+    private ExecutorService compactor;
+    private Future<?> pendingCompaction;
+
+    /**
+     * Sequence number of the active log segment. The snapshot in the file
+     * covers every segment numbered below the one recorded in its header.
+     */
+    private long segment = 0;
+    private long snapshotSegment = 0;
+    private int operationsSinceSnapshot = 0;
+    private long logBytes = 0;
+    private Format format = Format.TEXT;
+    private LogWriter logWriter;
+
+    /**
+     * Enum containing the formats that snapshots can be written in.
+     */
+    public enum Format {
+        TEXT,
+        BINARY
+    }
+
+    /**
+     * Enum containing the policies for syncing the operation log to disk.
+     */
+    public enum Durability {
+        /**
+         * Every operation is synced before the command returns.
+         */
+        EVERY_OPERATION,
+        /**
+         * Operations are synced at most a fixed interval after they are written.
+         */
+        INTERVAL,
+        /**
+         * Operations are only synced when the storage is closed.
+         */
+        ON_EXIT
+    }
+
+    private enum Letter {
+        TODO('T'),
+        DEADLINE('D'),
+        EVENT('E'),
+        INVALID('/');
+
+        private final char type;
+
+        Letter(char type) {
+            this.type = type;
+        }
+
+        private static Letter parseLetter(char type) {
+            switch (type) {
+            case 'T':
+                return TODO;
+            case 'D':
+                return DEADLINE;
+            case 'E':
+                return EVENT;
+            default:
+                return INVALID;
+            }
+        }
+
+        private Task createToDo(String description, boolean isCompleted) {
+            return new ToDo(description, isCompleted);
+        }
+
+        private Task createDeadline(String description, LocalDate time, boolean isCompleted) {
+            return new Deadline(description, time, isCompleted);
+        }
+
+        private Task createEvent(String description, LocalDate time, boolean isCompleted) {
+            return new Event(description, time, isCompleted);
+        }
+
+    }
+
+    /**
+     * Public constructor for a Storage object.
+     *
+     * @param filePath The filepath of the file object to be handled.
+     * @param dateIndex The index of the tasks by date, filled in as tasks are loaded.
+     */
+    public Storage(String filePath, DateIndex dateIndex) {
+        this(filePath, dateIndex, DEFAULT_SNAPSHOT_INTERVAL, DEFAULT_MAX_LOG_BYTES);
+    }
+
+    /**
+     * Public constructor for a Storage object with custom compaction thresholds.
+     *
+     * @param filePath The filepath of the file object to be handled.
+     * @param dateIndex The index of the tasks by date, filled in as tasks are loaded.
+     * @param snapshotInterval Number of logged operations after which a snapshot is written.
+     * @param maxLogBytes Size of the log in bytes after which a snapshot is written.
+     */
+    public Storage(String filePath, DateIndex dateIndex,
+                   int snapshotInterval, long maxLogBytes) {
+        this.filePath = filePath;
+        this.logPath = filePath + LOG_SUFFIX;
+        this.dateIndex = dateIndex;
+        this.snapshotInterval = snapshotInterval;
+        this.maxLogBytes = maxLogBytes;
+        this.logWriter = new LogWriter(new File(logPath).toPath(), Durability.INTERVAL,
+                DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Load the latest snapshot from the file per the filepath, then replays
+     * the operation log recorded since on top of it.
+     *
+     * @param taskList The tasklist to be updated as the file content is read.
+     * @return The updated tasklist.
+     */
+    public TaskList loadData(TaskList taskList) {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            checkFileExists();
+            if (event.isEnabled()) {
+                event.bytesRead = countStoredBytes();
+            }
+            taskList = parseData(taskList);
+            taskList = replayLog(taskList);
+            checkpoint(taskList);
+        } catch (IOException | DukeException e) {
+            System.out.println(e.getMessage());
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = StorageEvent.LOAD;
+                event.commit();
+            }
+            return taskList;
+        }
+    }
+
+    /**
+     * Returns the size of the data file and every log segment, which are all read when loading.
+     */
+    private long countStoredBytes() {
+        long total = new File(filePath).length() + new File(logPath).length();
+        for (File rotated : findRotatedSegments().values()) {
+            total += rotated.length();
+        }
+        return total;
+    }
+
+    private void checkFileExists() {
+        try {
+            File file = new File(filePath);
+            // Create a new file if it does not already exist
+            file.createNewFile();
+        } catch (IOException e) {
+            System.out.println(e);
+        }
+    }
+
+    private TaskList parseData(TaskList taskList) throws IOException, DukeException {
+        File file = new File(filePath);
+        if (BinaryTaskFormat.isBinary(file)) {
+            format = Format.BINARY;
+            return parseBinaryData(taskList, file);
+        }
+
+        // Text snapshots are UTF-8, as ChunkedTaskLoader decodes them.
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        reader.close();
+        if (header != null && header.startsWith(SNAPSHOT_HEADER)) {
+            snapshotSegment = parseSegmentNumber(header.substring(SNAPSHOT_HEADER.length()));
+        }
+
+        ArrayList<Task> tasks = ChunkedTaskLoader.load(file, this::parseTask);
+        return addLoadedTasks(taskList, tasks);
+    }
+
+    private TaskList parseBinaryData(TaskList taskList, File file) throws IOException, DukeException {
+        BinaryTaskFormat.Snapshot snapshot = BinaryTaskFormat.read(file);
+        snapshotSegment = snapshot.coveredSegment;
+        return addLoadedTasks(taskList, snapshot.tasks);
+    }
+
+    private TaskList addLoadedTasks(TaskList taskList, ArrayList<Task> tasks) {
+        for (Task task : tasks) {
+            dateIndex.add(task);
+        }
+        if (!tasks.isEmpty()) {
+            System.out.println(String.format("Loaded %d tasks from %s.", tasks.size(), filePath));
+        }
+        return taskList.addAll(tasks);
+    }
+
+    /**
+     * Parses a line of the text format into a task. The date index is not
+     * updated here, since lines may be parsed on several threads at once.
+     */
+    private Task parseTask(String task) throws DukeException {
+        if (task.length() < DESCRIPTION_START) {
+            throw new DukeException("Invalid task.");
+        }
+        char type = task.charAt(1);
+        Letter taskType = Letter.parseLetter(type);
+        boolean isCompleted = task.charAt(4) == 'X';
+
+        int timeIndex;
+        switch (taskType) {
+        case TODO:
+            return taskType.createToDo(parseDescription(task, task.length()), isCompleted);
+        case DEADLINE:
+            timeIndex = findTimeIndex(task, " (by: ");
+            return taskType.createDeadline(parseDescription(task, timeIndex),
+                    parseTime(task, timeIndex), isCompleted);
+        case EVENT:
+            timeIndex = findTimeIndex(task, " (at: ");
+            return taskType.createEvent(parseDescription(task, timeIndex),
+                    parseTime(task, timeIndex), isCompleted);
+        default:
+            throw new DukeException("Invalid task.");
+        }
+    }
+
+    private long parseSegmentNumber(String number) throws DukeException {
+        try {
+            return Long.parseLong(number.strip());
+        } catch (NumberFormatException e) {
+            throw new DukeException("Corrupted snapshot header.");
+        }
+    }
+
+    /**
+     * Replays the operation log recorded since the snapshot was written.
+     * Rotated segments not yet covered by the snapshot are replayed first,
+     * followed by the active log. Each record is one line of the form
+     * <code>add [T][ ] ...</code>, <code>done index</code> or <code>delete index</code>.
+     */
+    private TaskList replayLog(TaskList taskList) throws IOException, DukeException {
+        segment = snapshotSegment;
+        for (Map.Entry<Long, File> rotated : findRotatedSegments().entrySet()) {
+            if (rotated.getKey() < snapshotSegment) {
+                // Left behind by a compaction that finished writing the snapshot.
+                rotated.getValue().delete();
+                continue;
+            }
+            taskList = replaySegment(taskList, rotated.getValue());
+            segment = rotated.getKey() + 1;
+        }
+
+        File log = new File(logPath);
+        if (log.exists()) {
+            taskList = replaySegment(taskList, log);
+        }
+        return taskList;
+    }
+
+    private TreeMap<Long, File> findRotatedSegments() {
+        File log = new File(logPath).getAbsoluteFile();
+        String prefix = log.getName() + ".";
+        TreeMap<Long, File> segments = new TreeMap<>();
+        File[] files = log.getParentFile().listFiles();
+        if (files == null) {
+            return segments;
+        }
+        for (File file : files) {
+            String suffix = file.getName().startsWith(prefix)
+                    ? file.getName().substring(prefix.length())
+                    : "";
+            if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit)) {
+                segments.put(Long.parseLong(suffix), file);
+            }
+        }
+        return segments;
+    }
+
+    private TaskList replaySegment(TaskList taskList, File log) throws IOException, DukeException {
+        // Records are written by the LogWriter as UTF-8, whatever the platform charset.
+        BufferedReader reader = Files.newBufferedReader(log.toPath(), StandardCharsets.UTF_8);
+        String record;
+        while ((record = reader.readLine()) != null) {
+            taskList = replayRecord(taskList, record);
+            operationsSinceSnapshot++;
+        }
+        reader.close();
+        logBytes += log.length();
+        return taskList;
+    }
+
+    private TaskList replayRecord(TaskList taskList, String record) throws DukeException {
+        int separator = record.indexOf(' ');
+        if (separator < 0) {
+            throw new DukeException("Corrupted operation log.");
+        }
+        String operation = record.substring(0, separator);
+        String argument = record.substring(separator + 1);
+
+        switch (operation) {
+        case ADD_RECORD: {
+            Task task = parseTask(argument);
+            dateIndex.add(task);
+            return taskList.add(task);
+        }
+        case DONE_RECORD: {
+            int[] indices = parseRecordIndices(taskList, argument);
+            TaskList newTaskList = taskList.markTasksAsCompleted(indices);
+            for (int index : indices) {
+                dateIndex.replace(taskList.getTask(index), newTaskList.getTask(index));
+            }
+            return newTaskList;
+        }
+        case DELETE_RECORD: {
+            int[] indices = parseRecordIndices(taskList, argument);
+            for (int index : indices) {
+                dateIndex.remove(taskList.getTask(index));
+            }
+            return taskList.deleteTasks(indices);
+        }
+        default:
+            throw new DukeException("Corrupted operation log.");
+        }
+    }
+
+    /**
+     * Reads the indices of a record, written as a list of indices and ranges
+     * of indices in increasing order, such as <code>2,6,8-19</code>.
+     */
+    private int[] parseRecordIndices(TaskList taskList, String argument) throws DukeException {
+        try {
+            String[] ranges = argument.split(",");
+            int count = 0;
+            int[][] bounds = new int[ranges.length][];
+            for (int i = 0; i < ranges.length; i++) {
+                int dash = ranges[i].indexOf('-');
+                int first = Integer.parseInt(dash < 0 ? ranges[i] : ranges[i].substring(0, dash));
+                int last = dash < 0 ? first : Integer.parseInt(ranges[i].substring(dash + 1));
+                boolean isAfterPrevious = i == 0 || first > bounds[i - 1][1];
+                if (first > last || !isAfterPrevious || !taskList.isValidTaskIndex(first)
+                        || !taskList.isValidTaskIndex(last)) {
+                    throw new DukeException("Corrupted operation log.");
+                }
+                bounds[i] = new int[] {first, last};
+                count += last - first + 1;
+            }
+
+            int[] indices = new int[count];
+            int next = 0;
+            for (int[] range : bounds) {
+                for (int index = range[0]; index <= range[1]; index++) {
+                    indices[next++] = index;
+                }
+            }
+            return indices;
+        } catch (NumberFormatException e) {
+            throw new DukeException("Corrupted operation log.");
+        }
+    }
+
+    /**
+     * Writes indices in increasing order as a list of indices and ranges of indices.
+     */
+    private static String formatIndices(int[] indices) {
+        StringBuilder builder = new StringBuilder();
+        int i = 0;
+        while (i < indices.length) {
+            int last = i;
+            while (last + 1 < indices.length && indices[last + 1] == indices[last] + 1) {
+                last++;
+            }
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(indices[i]);
+            if (last > i) {
+                builder.append('-').append(indices[last]);
+            }
+            i = last + 1;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the index of the date suffix of a dated task. The last occurrence
+     * is used so that descriptions containing brackets are read correctly.
+     */
+    private int findTimeIndex(String task, String command) throws DukeException {
+        int timeIndex = task.lastIndexOf(command);
+        if (timeIndex < DESCRIPTION_START || !task.endsWith(")")) {
+            throw new DukeException("Invalid task");
+        }
+        return timeIndex;
+    }
+
+    private LocalDate parseTime(String task, int timeIndex) throws DukeException {
+        // Skip over " (by: " or " (at: " and drop the closing bracket.
+        String timeDescription = task.substring(timeIndex + " (by: ".length(), task.length() - 1);
+        try {
+            return LocalDate.parse(timeDescription);
+        } catch (DateTimeParseException e) {
+            throw new DukeException("Invalid task date.");
+        }
+    }
+
+    private String parseDescription(String task, int endOfDescription) {
+        // The type and completion markers always take up the first few characters.
+        return task.substring(DESCRIPTION_START, endOfDescription).strip();
+    }
+
+    /**
+     * Appends a single record to the operation log. The data file itself
+     * is left untouched, so the cost does not depend on the number of tasks.
+     *
+     * @param record The record to be appended.
+     */
+    private void appendRecord(String record) {
+        logWriter.append(record);
+        operationsSinceSnapshot++;
+        // Counted in bytes as the LogWriter encodes them, since the limit is a file size.
+        logBytes += (record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Compacts the operation log into a snapshot of the given task list
+     * if enough operations have been logged since the last snapshot.
+     * The task list must reflect every operation recorded so far.
+     *
+     * @param taskList The current state of the task list.
+     */
+    public void checkpoint(TaskList taskList) {
+        boolean isLogSmall = operationsSinceSnapshot < snapshotInterval && logBytes < maxLogBytes;
+        boolean isCompacting = pendingCompaction != null && !pendingCompaction.isDone();
+        if (isLogSmall || isCompacting) {
+            return;
+        }
+        compact(taskList);
+    }
+
+    /**
+     * Replaces the contents of the file with the given task list, such as
+     * after an undo. Unlike a checkpoint, the snapshot is written and synced
+     * before returning: the logged records it replaces would otherwise be
+     * replayed after a crash, bringing back the change that was undone.
+     *
+     * @param taskList The new state of the task list.
+     * @throws DukeException If the snapshot could not be written.
+     */
+    public void rewriteFile(TaskList taskList) throws DukeException {
+        awaitCompaction();
+        rotateLog().join();
+        try {
+            writeSnapshot(taskList, segment, format);
+        } catch (IOException e) {
+            throw new DukeException("The task list could not be saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts the file to the given format by writing a snapshot of the
+     * task list in that format. Later snapshots keep using the same format.
+     *
+     * @param format The format for snapshots to be written in.
+     * @param taskList The current state of the task list.
+     */
+    public void convertTo(Format format, TaskList taskList) {
+        if (this.format == format) {
+            return;
+        }
+        awaitCompaction();
+        this.format = format;
+        compact(taskList);
+        awaitCompaction();
+    }
+
+    /**
+     * Rotates the active log so that new records do not end up in the
+     * segment that the next snapshot is about to cover.
+     */
+    private CompletableFuture<Void> rotateLog() {
+        CompletableFuture<Void> rotation = logWriter.rotate(new File(logPath + "." + segment).toPath());
+        segment++;
+        operationsSinceSnapshot = 0;
+        logBytes = 0;
+        return rotation;
+    }
+
+    private void compact(TaskList taskList) {
+        CompletableFuture<Void> rotation = rotateLog();
+
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "storage-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long coveredSegment = segment;
+        Format snapshotFormat = format;
+        pendingCompaction = compactor.submit(() -> {
+            rotation.join();
+            try {
+                writeSnapshot(taskList, coveredSegment, snapshotFormat);
+            } catch (IOException e) {
+                // The covered segments are kept, so the log still holds every operation.
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Writes the snapshot to a temporary file, syncs it and moves it over the
+     * data file, then deletes the log segments that the snapshot covers.
+     */
+    private void writeSnapshot(TaskList taskList, long coveredSegment, Format snapshotFormat)
+            throws IOException {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        File temp = new File(filePath + ".tmp");
+        if (snapshotFormat == Format.BINARY) {
+            BinaryTaskFormat.write(temp, taskList, coveredSegment);
+        } else {
+            BufferedWriter writer = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8);
+            writer.write(SNAPSHOT_HEADER + coveredSegment + System.lineSeparator());
+            for (Task task : taskList) {
+                writer.write(task + System.lineSeparator());
+            }
+            writer.close();
+        }
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        long bytesWritten = temp.length();
+        Files.move(temp.toPath(), new File(filePath).toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = StorageEvent.SNAPSHOT;
+            event.isRewrite = true;
+            event.bytesWritten = bytesWritten;
+            event.commit();
+        }
+
+        findRotatedSegments().headMap(coveredSegment).values().forEach(File::delete);
+    }
+
+    /**
+     * Sets how often the operation log is synced to disk.
+     *
+     * @param durability The durability policy for logged operations.
+     */
+    public void setDurability(Durability durability) {
+        logWriter.close();
+        logWriter = new LogWriter(new File(logPath).toPath(), durability, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Waits until every operation recorded so far has been written to the log.
+     */
+    public void flush() {
+        logWriter.flush();
+    }
+
+    /**
+     * Writes out every pending operation and snapshot. Should be called before exiting.
+     */
+    public void close() {
+        logWriter.close();
+        awaitCompaction();
+    }
+
+    /**
+     * Waits for the snapshot currently being written in the background, if any.
+     */
+    void awaitCompaction() {
+        try {
+            if (pendingCompaction != null) {
+                pendingCompaction.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Records the newly added task in the operation log.
+     *
+     * @param task The task to be appended to the file contents.
+     */
+    public void addTaskToFile(Task task) {
+        appendRecord(ADD_RECORD + " " + task);
+    }
+
+    /**
+     * Records the deletion of a task in the operation log.
+     *
+     * @param index Index of the task that was deleted.
+     */
+    public void deleteTaskFromFile(int index) {
+        appendRecord(DELETE_RECORD + " " + index);
+    }
+
+    /**
+     * Records the deletion of several tasks in the operation log, as a single record.
+     *
+     * @param indices Indices of the tasks that were deleted, in increasing order.
+     */
+    public void deleteTasksFromFile(int[] indices) {
+        appendRecord(DELETE_RECORD + " " + formatIndices(indices));
+    }
+
+    /**
+     * Records in the operation log that a particular task has been marked.
+     *
+     * @param index Index of the task that was marked as completed.
+     */
+    public void markTaskAsCompleted(int index) {
+        appendRecord(DONE_RECORD + " " + index);
+    }
+
+    /**
+     * Records in the operation log that several tasks have been marked,
+     * as a single record.
+     *
+     * @param indices Indices of the tasks that were marked as completed, in increasing order.
+     */
+    public void markTasksAsCompleted(int[] indices) {
+        appendRecord(DONE_RECORD + " " + formatIndices(indices));
+    }
+
+}
@@ -0,0 +1,91 @@
+package seedu.duke;
+
+import java.util.BitSet;
+
+/**
+ * Reads a list of task numbers and ranges, such as <code>3,7,9-20</code>,
+ * straight from the user input. Numbers may be repeated or given in any order;
+ * each task is only selected once.
+ */
+final class TaskNumberScanner {
+    private static final int MAX_NUMBER_DIGITS = 9;
+
+    private TaskNumberScanner() {
+    }
+
+    /**
+     * Returns the indices of the tasks numbered in the given part of the text,
+     * in increasing order. Task numbers start from 1 while the indices start from 0.
+     *
+     * @param text The text holding the task numbers.
+     * @param start Index of the first character of the task numbers.
+     * @param end Index just after the last character of the task numbers.
+     * @param taskCount The number of tasks in the task list.
+     * @return Indices of the selected tasks.
+     * @throws DukeException If the text is not a list of task numbers, or
+     *                       a number is not in the task list.
+     */
+    static int[] scan(CharSequence text, int start, int end, int taskCount) throws DukeException {
+        BitSet selected = new BitSet(taskCount);
+        int position = start;
+        while (true) {
+            position = skipSpaces(text, position, end);
+            int firstEnd = scanDigits(text, position, end);
+            int first = readNumber(text, position, firstEnd);
+            int last = first;
+            position = skipSpaces(text, firstEnd, end);
+
+            if (position < end && text.charAt(position) == '-') {
+                position = skipSpaces(text, position + 1, end);
+                int lastEnd = scanDigits(text, position, end);
+                last = readNumber(text, position, lastEnd);
+                position = skipSpaces(text, lastEnd, end);
+            }
+            if (first > last) {
+                throw new DukeException("The first number of a range cannot be after the last.");
+            }
+            if (first < 1 || last > taskCount) {
+                throw new DukeException("There is no such task.");
+            }
+            selected.set(first - 1, last);
+
+            if (position >= end) {
+                return selected.stream().toArray();
+            }
+            if (text.charAt(position) != ',') {
+                throw new DukeException("Invalid task number");
+            }
+            position++;
+        }
+    }
+
+    private static int skipSpaces(CharSequence text, int position, int end) {
+        while (position < end && text.charAt(position) == ' ') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int scanDigits(CharSequence text, int start, int end) {
+        int position = start;
+        while (position < end && isDigit(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int readNumber(CharSequence text, int start, int end) throws DukeException {
+        if (start == end || end - start > MAX_NUMBER_DIGITS) {
+            throw new DukeException("Invalid task number");
+        }
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (text.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.duke.command;
+
+import seedu.duke.DukeException;
+import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+import seedu.duke.task.TaskList;
+
+/**
+ * Represents a command. A <code>Command</code> describes
+ * the action to be executed based on the command.
+ */
+public abstract class Command {
+
+    protected Ui ui;
+    protected TaskList taskList;
+
+    /**
+     * Public constructor for a <code>Command</code>.
+     * @param ui Ui to handle user interactions.
+     * @param taskList TaskList to be updated.
+     */
+    public Command(Ui ui, TaskList taskList) {
+        this.ui = ui;
+        this.taskList = taskList;
+    }
+
+    /**
+     * Checks if the command is an exit command.
+     *
+     * @return false if it is not.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Checks if the given command alters the task list.
+     *
+     * @return false if it does not update the task list.
+     */
+    public boolean isUpdatesTaskList() {
+        return false;
+    }
+
+    /**
+     * Checks if the change made by the command can be undone.
+     *
+     * @return true if the command updates the task list.
+     */
+    public boolean isRecordedInHistory() {
+        return isUpdatesTaskList();
+    }
+
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    /**
+     * Updates the date index if the command adds, changes or deletes tasks with dates.
+     *
+     * @param dateIndex Index to be updated.
+     */
+    public void updateDateIndex(DateIndex dateIndex) {
+        return;
+    }
+
+    /**
+     * Updates the search index if the command adds, changes or deletes tasks.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        return;
+    }
+
+    /**
+     * Reports the tasks added, changed or deleted by the command to the listener.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    public void reportChanges(TaskList.Listener listener) {
+        return;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    public abstract String getUsageMessage();
+
+    public abstract String execute() throws DukeException;
+
+}
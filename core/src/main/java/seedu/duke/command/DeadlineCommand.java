@@ -1,24 +1,24 @@
 package seedu.duke.command;
 
-import seedu.duke.DateTimeManager;
 import seedu.duke.Storage;
 import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
 import seedu.duke.task.Deadline;
 import seedu.duke.task.Task;
 import seedu.duke.task.TaskList;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
 
 /**
  * Represents a deadline command. A <code>DeadlineCommand</code> describes
  * the action to be executed when a user input a deadline task description.
  */
 public class DeadlineCommand extends Command {
+    public static final String USAGE = "deadline <description> /by dd/MM/yyy |"
+            + " add a deadline task to your list with the given description";
     private static final String ADD_MESSAGE = "Got it. I've added this task:\n";
     private Task task;
-    private LocalDate date;
     private Storage storage;
 
     /**
@@ -33,7 +33,6 @@ public class DeadlineCommand extends Command {
                            LocalDate date, Storage storage) {
         super(ui, taskList);
         task = new Deadline(description, date);
-        this.date = date;
         this.storage = storage;
     }
 
@@ -54,8 +53,7 @@ public class DeadlineCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "deadline <description> /by dd/MM/yyy |"
-                + " add a deadline task to your list with the given description";
+        return USAGE;
     }
 
     /**
@@ -71,15 +69,33 @@ public class DeadlineCommand extends Command {
     }
 
     /**
-     * Updates the hashmap if the command adds in tasks with dates.
+     * Adds the new task to the date index.
      *
-     * @param dateTasks Hashmap to be updated.
-     * @param manager Manager that updates the hashmap.
+     * @param dateIndex Index to be updated.
      */
-    public void updateDateTasks(HashMap<LocalDate, ArrayList<Task>> dateTasks,
-                                DateTimeManager manager) {
-        manager.updateDateTasks(dateTasks, date, task);
+    @Override
+    public void updateDateIndex(DateIndex dateIndex) {
+        dateIndex.add(task);
     }
 
-}
+    /**
+     * Adds the new task to the search index.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        searchIndex.add(task);
+    }
 
+    /**
+     * Reports the new task, added at the end of the task list.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        listener.taskAdded(taskList.size() - 1, task);
+    }
+
+}
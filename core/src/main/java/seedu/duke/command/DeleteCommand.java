@@ -0,0 +1,141 @@
+package seedu.duke.command;
+
+import seedu.duke.DukeException;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.util.ArrayList;
+
+/**
+ * Represents a delete command. A <code>DeleteCommand</code> describes
+ * the action to be executed when a user indicates a task, or several
+ * tasks, to delete. All the tasks are deleted in a single change to
+ * the task list.
+ */
+public class DeleteCommand extends Command {
+    public static final String USAGE = "delete <number> | delete the task indexed by the number as done\n"
+            + "delete <numbers> | delete the tasks indexed by the numbers, such as 3,7,9-20\n"
+            + "delete where find <keyword> | delete the tasks containing the keyword";
+    private static final String DELETE_MESSAGE = "Noted. I've removed this task:\n";
+    private static final String DELETE_MANY_MESSAGE = "Noted. I've removed these %d tasks:\n";
+    private int[] indices;
+    private Storage storage;
+    private ArrayList<Task> deletedTasks = new ArrayList<>();
+
+    /**
+     * Public constructor for a <code>DeleteCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param index Index of task to be deleted.
+     * @param storage The storage to handle modifications to the file.
+     */
+    public DeleteCommand(Ui ui, TaskList taskList, int index, Storage storage) {
+        this(ui, taskList, new int[] {index}, storage);
+    }
+
+    /**
+     * Public constructor for a <code>DeleteCommand</code> over several tasks.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param indices Indices of tasks to be deleted, in increasing order.
+     * @param storage The storage to handle modifications to the file.
+     */
+    public DeleteCommand(Ui ui, TaskList taskList, int[] indices, Storage storage) {
+        super(ui, taskList);
+        this.indices = indices;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Check if the given command alters the task list.
+     *
+     * @return true if it updates the task list.
+     */
+    @Override
+    public boolean isUpdatesTaskList() {
+        return true;
+    }
+
+    /**
+     * Deletes the tasks from the task list.
+     */
+    @Override
+    public String execute() throws DukeException {
+        boolean isValid = indices.length > 0 && taskList.isValidTaskIndex(indices[0])
+                && taskList.isValidTaskIndex(indices[indices.length - 1]);
+        if (!isValid) {
+            throw new DukeException("There is no such task.");
+        }
+
+        for (int index : indices) {
+            deletedTasks.add(taskList.getTask(index));
+        }
+        if (indices.length == 1) {
+            taskList = taskList.deleteTask(indices[0]);
+            storage.deleteTaskFromFile(indices[0]);
+            return String.format("%s\n%s\n%s",
+                    DELETE_MESSAGE, deletedTasks.get(0), taskList.status());
+        }
+
+        taskList = taskList.deleteTasks(indices);
+        storage.deleteTasksFromFile(indices);
+
+        StringBuilder tasks = new StringBuilder();
+        for (int i = 0; i < indices.length; i++) {
+            tasks.append(String.format("%4s%d. %s\n", " ", indices[i] + 1, deletedTasks.get(i)));
+        }
+        return String.format("%s\n%s%s",
+                String.format(DELETE_MANY_MESSAGE, indices.length), tasks, taskList.status());
+    }
+
+    /**
+     * Removes the deleted tasks from the date index.
+     *
+     * @param dateIndex Index to be updated.
+     */
+    @Override
+    public void updateDateIndex(DateIndex dateIndex) {
+        for (Task task : deletedTasks) {
+            dateIndex.remove(task);
+        }
+    }
+
+    /**
+     * Removes the deleted tasks from the search index.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        searchIndex.removeAll(deletedTasks);
+    }
+
+    /**
+     * Reports the deleted tasks, from the back so that the remaining indices stay in place.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        for (int i = indices.length - 1; i >= 0; i--) {
+            listener.taskRemoved(indices[i]);
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package seedu.duke.command;
+
+import seedu.duke.DukeException;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.util.ArrayList;
+
+/**
+ * Represents a done command. A <code>DoneCommand</code> describes
+ * the action to be executed when a user indicates a task, or several
+ * tasks, to be marked as done. All the tasks are marked in a single
+ * change to the task list.
+ */
+public class DoneCommand extends Command {
+    public static final String USAGE = "done <number> | mark the task indexed by the number as done\n"
+            + "done <numbers> | mark the tasks indexed by the numbers, such as 1-5,8, as done\n"
+            + "done where find <keyword> | mark the tasks containing the keyword as done";
+    private static final String DONE_MESSAGE = "Nice! I've marked this task as done:\n";
+    private static final String DONE_MANY_MESSAGE = "Nice! I've marked these %d tasks as done:\n";
+    private int[] indices;
+    private Storage storage;
+    private ArrayList<Task> previousTasks = new ArrayList<>();
+
+    /**
+     * Public constructor for a <code>DoneCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param index Index of task to be marked as done.
+     * @param storage The storage to handle modifications to the file.
+     */
+    public DoneCommand(Ui ui, TaskList taskList, int index, Storage storage) {
+        this(ui, taskList, new int[] {index}, storage);
+    }
+
+    /**
+     * Public constructor for a <code>DoneCommand</code> over several tasks.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param indices Indices of tasks to be marked as done, in increasing order.
+     * @param storage The storage to handle modifications to the file.
+     */
+    public DoneCommand(Ui ui, TaskList taskList, int[] indices, Storage storage) {
+        super(ui, taskList);
+        this.indices = indices;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Check if the given command alters the task list.
+     *
+     * @return true if it updates the task list.
+     */
+    @Override
+    public boolean isUpdatesTaskList() {
+        return true;
+    }
+
+    /**
+     * Mark the tasks as done in the task list.
+     */
+    @Override
+    public String execute() throws DukeException {
+        boolean isValid = indices.length > 0 && taskList.isValidTaskIndex(indices[0])
+                && taskList.isValidTaskIndex(indices[indices.length - 1]);
+        if (!isValid) {
+            throw new DukeException("There is no such task.");
+        }
+
+        for (int index : indices) {
+            previousTasks.add(taskList.getTask(index));
+        }
+        if (indices.length == 1) {
+            taskList = taskList.markTaskAsCompleted(indices[0]);
+            storage.markTaskAsCompleted(indices[0]);
+            return String.format("%s\n%s\n%s",
+                    DONE_MESSAGE, taskList.getTask(indices[0]), taskList.status());
+        }
+
+        taskList = taskList.markTasksAsCompleted(indices);
+        storage.markTasksAsCompleted(indices);
+
+        StringBuilder tasks = new StringBuilder();
+        for (int index : indices) {
+            tasks.append(String.format("%4s%d. %s\n", " ", index + 1, taskList.getTask(index)));
+        }
+        return String.format("%s\n%s%s",
+                String.format(DONE_MANY_MESSAGE, indices.length), tasks, taskList.status());
+    }
+
+    /**
+     * Replaces the tasks with their completed versions in the date index.
+     *
+     * @param dateIndex Index to be updated.
+     */
+    @Override
+    public void updateDateIndex(DateIndex dateIndex) {
+        for (int i = 0; i < previousTasks.size(); i++) {
+            dateIndex.replace(previousTasks.get(i), taskList.getTask(indices[i]));
+        }
+    }
+
+    /**
+     * Replaces the tasks with their completed versions in the search index.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        for (int i = 0; i < previousTasks.size(); i++) {
+            searchIndex.replace(previousTasks.get(i), taskList.getTask(indices[i]));
+        }
+    }
+
+    /**
+     * Reports the tasks replaced by their completed versions.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        for (int index : indices) {
+            listener.taskReplaced(index, taskList.getTask(index));
+        }
+    }
+
+}
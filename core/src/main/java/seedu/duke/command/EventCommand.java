@@ -1,15 +1,14 @@
 package seedu.duke.command;
 
-import seedu.duke.DateTimeManager;
 import seedu.duke.Storage;
 import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
 import seedu.duke.task.Event;
 import seedu.duke.task.Task;
 import seedu.duke.task.TaskList;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
 
 
 /**
@@ -17,10 +16,11 @@ import java.util.HashMap;
  * the action to be executed when a user input an event task description.
  */
 public class EventCommand extends Command {
+    public static final String USAGE = "event <description> /at dd/MM/yyy |"
+            + " add an event task to your list with the given description";
     private static final String ADD_MESSAGE = "Got it. I've added this task:\n";
     private Task task;
     private Storage storage;
-    private LocalDate date;
 
     /**
      * Public constructor for <code>EventCommand</code>.
@@ -34,7 +34,6 @@ public class EventCommand extends Command {
                         LocalDate date, Storage storage) {
         super(ui, taskList);
         task = new Event(description, date);
-        this.date = date;
         this.storage = storage;
     }
 
@@ -45,8 +44,7 @@ public class EventCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "event <description> /at dd/MM/yyy |"
-                + " add an event task to your list with the given description";
+        return USAGE;
     }
 
     /**
@@ -72,15 +70,33 @@ public class EventCommand extends Command {
     }
 
     /**
-     * Updates the hashmap if the command adds in tasks with dates.
+     * Adds the new task to the date index.
      *
-     * @param dateTasks Hashmap to be updated.
-     * @param manager Manager that updates the hashmap.
+     * @param dateIndex Index to be updated.
      */
-    public void updateDateTasks(HashMap<LocalDate, ArrayList<Task>> dateTasks,
-                                DateTimeManager manager) {
-        manager.updateDateTasks(dateTasks, date, task);
+    @Override
+    public void updateDateIndex(DateIndex dateIndex) {
+        dateIndex.add(task);
     }
 
-}
+    /**
+     * Adds the new task to the search index.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        searchIndex.add(task);
+    }
 
+    /**
+     * Reports the new task, added at the end of the task list.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        listener.taskAdded(taskList.size() - 1, task);
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.duke.command;
 
+import seedu.duke.Storage;
 import seedu.duke.Ui;
 import seedu.duke.task.TaskList;
 
@@ -8,10 +9,20 @@ import seedu.duke.task.TaskList;
  * the system when a user types bye to Duke.
  */
 public class ExitCommand extends Command {
+    public static final String USAGE = "bye | quit the chat bot";
     private static final String EXIT_MESSAGE = "Bye. Hope to see you again soon!";
+    private Storage storage;
 
-    public ExitCommand(Ui ui, TaskList taskList) {
+    /**
+     * Public constructor for an <code>ExitCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param storage The storage to be flushed before exiting.
+     */
+    public ExitCommand(Ui ui, TaskList taskList, Storage storage) {
         super(ui, taskList);
+        this.storage = storage;
     }
 
     /**
@@ -31,14 +42,15 @@ public class ExitCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "bye | quit the chat bot";
+        return USAGE;
     }
 
     /**
-     * Prints Duke's exit message.
+     * Writes out pending changes and prints Duke's exit message.
      */
     @Override
     public String execute() {
+        storage.close();
         return EXIT_MESSAGE;
     }
 
@@ -2,6 +2,7 @@ package seedu.duke.command;
 
 import seedu.duke.DukeException;
 import seedu.duke.Ui;
+import seedu.duke.index.SearchIndex;
 import seedu.duke.task.TaskList;
 
 /**
@@ -10,20 +11,29 @@ import seedu.duke.task.TaskList;
  * for tasks with the matching keyword.
  */
 public class FindCommand extends Command {
+    public static final String USAGE = "find <keyword> | find tasks by the keyword\n"
+            + "find /w <word> | find tasks containing the whole word";
     private static final String FIND_MESSAGE = "Here are the matching tasks in your list.\n";
     private String keyword;
+    private SearchIndex searchIndex;
+    private boolean isWholeWord;
 
     /**
      * Public constructor for <code>FindCommand</code>.
      *
      * @param ui The Ui to handle user interactions.
      * @param taskList The task list to be updated.
+     * @param searchIndex The index of the words in the tasks.
      * @param keyword The keyword to search for among the tasks
      *                in the task list.
+     * @param isWholeWord Whether only tasks containing the keyword as a whole word match.
      */
-    public FindCommand(Ui ui, TaskList taskList, String keyword) {
+    public FindCommand(Ui ui, TaskList taskList, SearchIndex searchIndex,
+                       String keyword, boolean isWholeWord) {
         super(ui, taskList);
+        this.searchIndex = searchIndex;
         this.keyword = keyword;
+        this.isWholeWord = isWholeWord;
     }
 
     /**
@@ -33,7 +43,7 @@ public class FindCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "find <keyword> | find tasks by the keyword";
+        return USAGE;
     }
 
     /**
@@ -41,7 +51,15 @@ public class FindCommand extends Command {
      */
     @Override
     public String execute() throws DukeException {
-        TaskList matchingTasks = taskList.findTasksByKeyword(keyword);
+        TaskList matchingTasks;
+        if (isWholeWord) {
+            matchingTasks = new TaskList(searchIndex.findWord(keyword));
+        } else if (keyword.length() >= SearchIndex.MIN_SUBSTRING_LENGTH) {
+            matchingTasks = new TaskList(searchIndex.findSubstring(keyword));
+        } else {
+            // Too short to have a trigram, so every task has to be checked.
+            matchingTasks = taskList.findTasksByKeyword(keyword);
+        }
 
         if (matchingTasks.isEmpty()) {
             throw new DukeException("No tasks matches the given keyword.");
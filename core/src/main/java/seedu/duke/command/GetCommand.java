@@ -0,0 +1,86 @@
+package seedu.duke.command;
+
+import seedu.duke.DukeException;
+import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.TaskList;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a get command. A <code>GetCommand</code> describes
+ * the action to be executed when a user indicates a date, or a range
+ * of dates, to search for tasks happening on.
+ */
+public class GetCommand extends Command {
+    public static final String USAGE = "get dd/MM/yyyy | get tasks on given date\n"
+            + "get dd/MM/yyyy dd/MM/yyyy | get tasks from the first date to the second\n"
+            + "get week, get month | get tasks in the next 7 days or the next month";
+    private static final String GET_MESSAGE = "These are the tasks happening on that date:\n";
+    private static final String GET_RANGE_MESSAGE = "These are the tasks happening from %s to %s:\n";
+    private static final String NO_TASKS_MESSAGE = "There are no tasks happening from %s to %s.";
+    private LocalDate from;
+    private LocalDate to;
+    private DateIndex dateIndex;
+
+    /**
+     * Public constructor for a <code>GetCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param date The date to look up.
+     * @param dateIndex The index of the tasks by date.
+     */
+    public GetCommand(Ui ui, TaskList taskList, LocalDate date,
+                      DateIndex dateIndex) {
+        this(ui, taskList, date, date, dateIndex);
+    }
+
+    /**
+     * Public constructor for a <code>GetCommand</code> over a range of dates.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param from The first date to look up.
+     * @param to The last date to look up.
+     * @param dateIndex The index of the tasks by date.
+     */
+    public GetCommand(Ui ui, TaskList taskList, LocalDate from, LocalDate to,
+                      DateIndex dateIndex) {
+        super(ui, taskList);
+        this.from = from;
+        this.to = to;
+        this.dateIndex = dateIndex;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Returns tasks happening or due on the given date, or in the given range of dates.
+     */
+    @Override
+    public String execute() throws DukeException {
+        if (from.equals(to)) {
+            return String.format("%s\n%s\n",
+                    GET_MESSAGE,
+                    dateIndex.getTasksOn(from).toString());
+        }
+
+        StringBuilder tasks = new StringBuilder();
+        int count = dateIndex.forEachBetween(from, to, (task, position) ->
+                tasks.append(String.format("%4s%d. %s\n", " ", position + 1, task)));
+        if (count == 0) {
+            return String.format(NO_TASKS_MESSAGE, from, to);
+        }
+        return String.format("%s\n%s", String.format(GET_RANGE_MESSAGE, from, to), tasks);
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.duke.command;
+
+import seedu.duke.Ui;
+import seedu.duke.task.TaskList;
+
+import java.util.List;
+
+/**
+ * Represents a help command. A <code>HelpCommand</code> returns
+ * Duke's usage when a user is needs help.
+ */
+public class HelpCommand extends Command {
+    public static final String USAGE = "help  | get the available commands for Duke.";
+    private static final String HELP_MESSAGE = "Here are the available commands:\n";
+    private String helpText;
+
+    /**
+     * Public constructor for HelpCommand.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The tasklist to be updated.
+     * @param helpText The usage of every command, as rendered by {@link #render(List)}.
+     */
+    public HelpCommand(Ui ui, TaskList taskList, String helpText) {
+        super(ui, taskList);
+        this.helpText = helpText;
+    }
+
+    /**
+     * Returns the help text listing the usage of the given commands.
+     *
+     * @param usages The usage of each command, in the order to be listed.
+     * @return String representation of the available commands.
+     */
+    public static String render(List<String> usages) {
+        StringBuilder help = new StringBuilder(HELP_MESSAGE).append("\n");
+        for (String usage : usages) {
+            help.append(usage).append("\n\n");
+        }
+        return help.toString();
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Returns a string representation of
+     * the available commands.
+     */
+    @Override
+    public String execute() {
+        return helpText;
+    }
+
+}
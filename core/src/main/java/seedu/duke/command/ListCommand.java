@@ -8,6 +8,7 @@ import seedu.duke.task.TaskList;
  * the list of tasks when a user requests for it.
  */
 public class ListCommand extends Command {
+    public static final String USAGE = "list  | get the current list of tasks";
     private static final String LIST_MESSAGE = "Here are the tasks in your list:\n";
 
     /**
@@ -26,7 +27,7 @@ public class ListCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "list  | get the current list of tasks";
+        return USAGE;
     }
 
     /**
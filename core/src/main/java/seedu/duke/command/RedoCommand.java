@@ -0,0 +1,116 @@
+package seedu.duke.command;
+
+import seedu.duke.DukeException;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.TaskListHistory;
+
+/**
+ * Represents a redo command. A <code>RedoCommand</code> restores
+ * the last change to the task list that was undone.
+ */
+public class RedoCommand extends Command {
+    public static final String USAGE = "redo | redo the last change that was undone";
+    private static final String REDO_MESSAGE = "Redone! The change to the list has been restored.\n";
+    private TaskListHistory history;
+    private Storage storage;
+
+    /**
+     * Public constructor for <code>RedoCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param history The history of the task list.
+     * @param storage The storage to handle modifications to the file.
+     */
+    public RedoCommand(Ui ui, TaskList taskList, TaskListHistory history, Storage storage) {
+        super(ui, taskList);
+        this.history = history;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Check if the given command alters the task list.
+     *
+     * @return true if it updates the task list.
+     */
+    @Override
+    public boolean isUpdatesTaskList() {
+        return true;
+    }
+
+    /**
+     * Checks if the change made by the command can be undone.
+     *
+     * @return false since the history itself is being moved through.
+     */
+    @Override
+    public boolean isRecordedInHistory() {
+        return false;
+    }
+
+    /**
+     * Restores the task list to the version in the history.
+     */
+    @Override
+    public String execute() throws DukeException {
+        if (!history.canRedo()) {
+            throw new DukeException("There is nothing to redo.");
+        }
+        TaskList restored = history.redo(taskList);
+        try {
+            storage.rewriteFile(restored);
+        } catch (DukeException e) {
+            // The file still holds the current version, so the history is put back.
+            history.undo(restored);
+            throw e;
+        }
+        taskList = restored;
+
+        return String.format("%s\n%s", REDO_MESSAGE, taskList.status());
+    }
+
+    /**
+     * Rebuilds the date index to reflect the restored task list.
+     *
+     * @param dateIndex Index to be updated.
+     */
+    @Override
+    public void updateDateIndex(DateIndex dateIndex) {
+        dateIndex.rebuild(taskList);
+    }
+
+    /**
+     * Rebuilds the search index to reflect the restored task list.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        searchIndex.rebuild(taskList);
+    }
+
+    /**
+     * Reports that the whole task list was restored.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        listener.taskListReset(taskList);
+    }
+
+}
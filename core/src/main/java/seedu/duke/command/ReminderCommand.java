@@ -2,35 +2,32 @@ package seedu.duke.command;
 
 import seedu.duke.DukeException;
 import seedu.duke.Ui;
-import seedu.duke.task.Task;
+import seedu.duke.index.DateIndex;
 import seedu.duke.task.TaskList;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Represents a reminder command. A <code>ReminderCommand</code> returns
  * all the upcoming tasks.
  */
 public class ReminderCommand extends Command {
+    public static final String USAGE = "remind | get the upcoming tasks";
     private static final String REMINDER_MESSAGE = "These are the upcoming tasks:\n";
     private static final String NO_REMINDERS_MESSAGE = "There are no upcoming tasks.";
-    private HashMap<LocalDate, ArrayList<Task>> dateTasks;
+    private DateIndex dateIndex;
 
     /**
      * Public constructor for a <code>ReminderCommand</code>.
      *
      * @param ui The Ui to handle user interactions.
      * @param taskList The task list to be updated.
-     * @param dateTasks A HashMap classifying the tasks based on the date.
+     * @param dateIndex The index of the tasks by date.
      */
     public ReminderCommand(Ui ui, TaskList taskList,
-                      HashMap<LocalDate, ArrayList<Task>> dateTasks) {
+                      DateIndex dateIndex) {
         super(ui, taskList);
-        this.dateTasks = dateTasks;
+        this.dateIndex = dateIndex;
     }
 
     /**
@@ -40,26 +37,11 @@ public class ReminderCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "reminder | get the upcoming tasks";
+        return USAGE;
     }
 
     private TaskList filterTasks() {
-        LocalDate now = LocalDate.now();
-        ArrayList<Task> upcomingTasksList = new ArrayList<>();
-
-        List<LocalDate> dates = dateTasks.keySet()
-                .stream()
-                .filter(x -> x.compareTo(now) > 0)
-                .sorted()
-                .collect(Collectors.toList());
-
-        for (LocalDate date: dates) {
-            System.out.println(date);
-            upcomingTasksList.addAll(
-                    dateTasks.getOrDefault(date, new ArrayList<>())
-            );
-        }
-        return new TaskList(null, null, upcomingTasksList);
+        return new TaskList(dateIndex.getTasksAfter(LocalDate.now()));
     }
 
     /**
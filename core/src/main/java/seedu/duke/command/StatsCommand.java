@@ -0,0 +1,46 @@
+package seedu.duke.command;
+
+import seedu.duke.Ui;
+import seedu.duke.task.TaskList;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents a stats command. A <code>StatsCommand</code> returns
+ * how many commands of each type have been run and how long they took.
+ */
+public class StatsCommand extends Command {
+    public static final String USAGE = "stats | get the number of commands run and their latency";
+    private Supplier<String> stats;
+
+    /**
+     * Public constructor for a <code>StatsCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param stats Renders the metrics recorded so far, when the command is executed.
+     */
+    public StatsCommand(Ui ui, TaskList taskList, Supplier<String> stats) {
+        super(ui, taskList);
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Returns the metrics of the commands run.
+     */
+    @Override
+    public String execute() {
+        return stats.get();
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.duke.command;
+
+import seedu.duke.Ui;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.TaskListHistory;
+
+/**
+ * Represents a status command. A <code>StatusCommand</code> returns
+ * the number of tasks and the memory used by the undo history.
+ */
+public class StatusCommand extends Command {
+    public static final String USAGE = "status | get the size of the task list and its undo history";
+    private TaskListHistory history;
+
+    /**
+     * Public constructor for a <code>StatusCommand</code>.
+     *
+     * @param ui The Ui to handle user interactions.
+     * @param taskList The task list to be updated.
+     * @param history The history of the task list.
+     */
+    public StatusCommand(Ui ui, TaskList taskList, TaskListHistory history) {
+        super(ui, taskList);
+        this.history = history;
+    }
+
+    /**
+     * Returns the format on how to use the command.
+     *
+     * @return String representation of the help message.
+     */
+    @Override
+    public String getUsageMessage() {
+        return USAGE;
+    }
+
+    /**
+     * Returns the status of the task list and its history.
+     */
+    @Override
+    public String execute() {
+        return String.format("%s\n%s", taskList.status(), history.status(taskList));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.duke.command;
 
 import seedu.duke.Storage;
 import seedu.duke.Ui;
+import seedu.duke.index.SearchIndex;
 import seedu.duke.task.Task;
 import seedu.duke.task.TaskList;
 import seedu.duke.task.ToDo;
@@ -11,6 +12,8 @@ import seedu.duke.task.ToDo;
  * the action to be executed when a user input a todo task description.
  */
 public class ToDoCommand extends Command {
+    public static final String USAGE = "todo <description>  |"
+            + " add a todo task to your list with the given description";
     private static final String ADD_MESSAGE = "Got it. I've added this task:\n";
     private Task task;
     private Storage storage;
@@ -37,8 +40,7 @@ public class ToDoCommand extends Command {
      */
     @Override
     public String getUsageMessage() {
-        return "todo <description>  |"
-                + " add a todo task to your list with the given description";
+        return USAGE;
     }
 
     /**
@@ -63,5 +65,24 @@ public class ToDoCommand extends Command {
                 ADD_MESSAGE, task, taskList.status());
     }
 
-}
+    /**
+     * Adds the new task to the search index.
+     *
+     * @param searchIndex Index to be updated.
+     */
+    @Override
+    public void updateSearchIndex(SearchIndex searchIndex) {
+        searchIndex.add(task);
+    }
 
+    /**
+     * Reports the new task, added at the end of the task list.
+     *
+     * @param listener Listener to be told of the changes.
+     */
+    @Override
+    public void reportChanges(TaskList.Listener listener) {
+        listener.taskAdded(taskList.size() - 1, task);
+    }
+
+}
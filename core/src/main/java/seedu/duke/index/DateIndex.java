@@ -0,0 +1,224 @@
+package seedu.duke.index;
+
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Represents an index of the deadlines and events by the day they happen on.
+ * A <code>DateIndex</code> keeps the days sorted by their epoch day, so the
+ * tasks in a range of days are found without looking at any other day.
+ * Within a day, tasks are kept in the order they were added. Every task is
+ * looked up by identity, so removing or replacing a task takes constant time
+ * apart from finding its day.
+ */
+public class DateIndex {
+    private final TreeMap<Long, Day> days = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+    private Listener listener;
+
+    /**
+     * Listens to the tasks added to and removed from the index.
+     * A replaced task is reported as removed, followed by its new version being added.
+     */
+    public interface Listener {
+        void taskAdded(Task task);
+
+        void taskRemoved(Task task);
+    }
+
+    /**
+     * Represents a task in the linked list of the tasks on its day.
+     */
+    private static class Entry {
+        private Task task;
+        private final long epochDay;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(Task task, long epochDay) {
+            this.task = task;
+            this.epochDay = epochDay;
+        }
+    }
+
+    /**
+     * Represents the tasks on a day, from the first added to the last.
+     */
+    private static class Day {
+        private Entry first;
+        private Entry last;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Adds the task under the day it happens on. Tasks without a date are ignored.
+     *
+     * @param task The task to be added.
+     */
+    public void add(Task task) {
+        if (!isDated(task) || entries.containsKey(task)) {
+            return;
+        }
+        Entry entry = new Entry(task, task.getDate().toEpochDay());
+        entries.put(task, entry);
+        Day day = days.computeIfAbsent(entry.epochDay, key -> new Day());
+        entry.previous = day.last;
+        if (day.last == null) {
+            day.first = entry;
+        } else {
+            day.last.next = entry;
+        }
+        day.last = entry;
+        if (listener != null) {
+            listener.taskAdded(task);
+        }
+    }
+
+    /**
+     * Replaces a task with a new version of it. If both happen on the same day,
+     * the new version keeps the place of the old one within the day.
+     *
+     * @param oldTask The task to be replaced.
+     * @param newTask The task replacing it.
+     */
+    public void replace(Task oldTask, Task newTask) {
+        Entry entry = entries.get(oldTask);
+        if (entry == null || !isDated(newTask) || newTask.getDate().toEpochDay() != entry.epochDay) {
+            remove(oldTask);
+            add(newTask);
+            return;
+        }
+        entries.remove(oldTask);
+        entry.task = newTask;
+        entries.put(newTask, entry);
+        if (listener != null) {
+            listener.taskRemoved(oldTask);
+            listener.taskAdded(newTask);
+        }
+    }
+
+    /**
+     * Removes the task from the index.
+     *
+     * @param task The task to be removed.
+     */
+    public void remove(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        Day day = days.get(entry.epochDay);
+        if (entry.previous == null) {
+            day.first = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            day.last = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        if (day.first == null) {
+            days.remove(entry.epochDay);
+        }
+        if (listener != null) {
+            listener.taskRemoved(task);
+        }
+    }
+
+    /**
+     * Clears the index and adds every dated task in the task list.
+     *
+     * @param taskList The tasks to be indexed.
+     */
+    public void rebuild(TaskList taskList) {
+        if (listener != null) {
+            for (Task task : entries.keySet()) {
+                listener.taskRemoved(task);
+            }
+        }
+        days.clear();
+        entries.clear();
+        for (Task task : taskList) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks happening on the given date.
+     *
+     * @param date The date to look up.
+     * @return The tasks on that date.
+     */
+    public List<Task> getTasksOn(LocalDate date) {
+        return collect(days.subMap(date.toEpochDay(), true, date.toEpochDay(), true));
+    }
+
+    /**
+     * Performs the action on each task happening from one date to another,
+     * both inclusive, in date order. Only the days in the range are visited.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @param action The action to be performed on each task and its position in the range, from 0.
+     * @return The number of tasks in the range.
+     */
+    public int forEachBetween(LocalDate from, LocalDate to, ObjIntConsumer<Task> action) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        int count = 0;
+        for (Day day : days.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values()) {
+            for (Entry entry = day.first; entry != null; entry = entry.next) {
+                action.accept(entry.task, count++);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the tasks happening after the given date, sorted by date.
+     *
+     * @param date The date after which tasks are returned.
+     * @return The tasks after that date.
+     */
+    public List<Task> getTasksAfter(LocalDate date) {
+        return collect(days.tailMap(date.toEpochDay(), false));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static List<Task> collect(NavigableMap<Long, Day> range) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        forEach(range, tasks::add);
+        return tasks;
+    }
+
+    private static void forEach(NavigableMap<Long, Day> range, Consumer<Task> action) {
+        for (Day day : range.values()) {
+            for (Entry entry = day.first; entry != null; entry = entry.next) {
+                action.accept(entry.task);
+            }
+        }
+    }
+
+    private static boolean isDated(Task task) {
+        return task instanceof Deadline || task instanceof Event;
+    }
+}
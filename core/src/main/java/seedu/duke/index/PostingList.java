@@ -0,0 +1,72 @@
+package seedu.duke.index;
+
+import java.util.Arrays;
+
+/**
+ * Represents a sorted set of task ids. Since ids are handed out in increasing
+ * order, adding an id is usually an append to the end of the array.
+ */
+final class PostingList {
+    private long[] ids = new long[4];
+    private int size = 0;
+
+    void add(long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        int position = size;
+        if (size > 0 && ids[size - 1] >= id) {
+            position = -Arrays.binarySearch(ids, 0, size, id) - 1;
+            if (position < 0) {
+                // Already in the list.
+                return;
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+        }
+        ids[position] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Removes all the given ids in a single pass over the list.
+     */
+    void removeAll(PostingList removed) {
+        int kept = 0;
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            while (next < removed.size && removed.ids[next] < ids[i]) {
+                next++;
+            }
+            if (next < removed.size && removed.ids[next] == ids[i]) {
+                continue;
+            }
+            ids[kept++] = ids[i];
+        }
+        size = kept;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int position) {
+        return ids[position];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
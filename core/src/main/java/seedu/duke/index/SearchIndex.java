@@ -0,0 +1,273 @@
+package seedu.duke.index;
+
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an index of the words in the descriptions of tasks.
+ * A <code>SearchIndex</code> maps every word, and every trigram of three
+ * consecutive characters, to the tasks containing it, and is updated as
+ * tasks are added, replaced and deleted.
+ * Tasks are given increasing ids as they are indexed, so the ids of the
+ * tasks follow the order of the task list.
+ */
+public class SearchIndex {
+    /**
+     * Length of the shortest keyword that can be looked up by its trigrams.
+     */
+    public static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private final IdentityHashMap<Task, Long> ids = new IdentityHashMap<>();
+    private final HashMap<Long, Task> tasks = new HashMap<>();
+    private final HashMap<String, PostingList> words = new HashMap<>();
+    private final HashMap<Long, PostingList> trigrams = new HashMap<>();
+    private long nextId = 0;
+
+    /**
+     * Adds the task to the index.
+     *
+     * @param task The task to be indexed.
+     */
+    public void add(Task task) {
+        long id = nextId++;
+        ids.put(task, id);
+        tasks.put(id, task);
+        addTerms(task, id);
+    }
+
+    /**
+     * Replaces the task in the index with its updated version,
+     * keeping its place in the order of the task list.
+     *
+     * @param oldTask The task to be replaced.
+     * @param newTask The updated task.
+     */
+    public void replace(Task oldTask, Task newTask) {
+        Long id = ids.remove(oldTask);
+        if (id == null) {
+            add(newTask);
+            return;
+        }
+        ids.put(newTask, id);
+        tasks.put(id, newTask);
+        if (!oldTask.getDescription().equals(newTask.getDescription())) {
+            removeTerms(oldTask, id);
+            addTerms(newTask, id);
+        }
+    }
+
+    /**
+     * Removes the task from the index.
+     *
+     * @param task The task to be removed.
+     */
+    public void remove(Task task) {
+        Long id = ids.remove(task);
+        if (id == null) {
+            return;
+        }
+        tasks.remove(id);
+        removeTerms(task, id);
+    }
+
+    /**
+     * Removes all the given tasks from the index at once. Each posting list
+     * holding any of the tasks is only compacted once.
+     *
+     * @param removedTasks The tasks to be removed.
+     */
+    public void removeAll(Collection<Task> removedTasks) {
+        long[] removedIds = new long[removedTasks.size()];
+        int count = 0;
+        for (Task task : removedTasks) {
+            Long id = ids.remove(task);
+            if (id != null) {
+                removedIds[count++] = id;
+            }
+        }
+        Arrays.sort(removedIds, 0, count);
+
+        // Ids are visited in increasing order, so each removal list stays sorted.
+        HashMap<String, PostingList> wordRemovals = new HashMap<>();
+        HashMap<Long, PostingList> trigramRemovals = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            long id = removedIds[i];
+            String description = tasks.remove(id).getDescription();
+            for (String word : splitWords(description)) {
+                wordRemovals.computeIfAbsent(word, key -> new PostingList()).add(id);
+            }
+            for (long trigram : splitTrigrams(description)) {
+                trigramRemovals.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+            }
+        }
+        removePostings(words, wordRemovals);
+        removePostings(trigrams, trigramRemovals);
+    }
+
+    /**
+     * Clears the index and indexes every task in the task list.
+     *
+     * @param taskList The tasks to be indexed.
+     */
+    public void rebuild(TaskList taskList) {
+        ids.clear();
+        tasks.clear();
+        words.clear();
+        trigrams.clear();
+        for (Task task : taskList) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the tasks containing the given word, in the order of the task list.
+     *
+     * @param word The whole word to search for.
+     * @return The tasks containing the word.
+     */
+    public List<Task> findWord(String word) {
+        PostingList postings = words.get(word);
+        ArrayList<Task> matchingTasks = new ArrayList<>();
+        if (postings == null) {
+            return matchingTasks;
+        }
+        for (int i = 0; i < postings.size(); i++) {
+            matchingTasks.add(tasks.get(postings.get(i)));
+        }
+        return matchingTasks;
+    }
+
+    /**
+     * Returns the tasks containing the given keyword anywhere in their description,
+     * in the order of the task list. Only tasks containing every trigram of the
+     * keyword are checked against the keyword itself.
+     *
+     * @param keyword The keyword to search for, at least three characters long.
+     * @return The tasks containing the keyword.
+     */
+    public List<Task> findSubstring(String keyword) {
+        assert keyword.length() >= MIN_SUBSTRING_LENGTH : "Keyword has at least one trigram.";
+        ArrayList<PostingList> candidates = new ArrayList<>();
+        for (long trigram : splitTrigrams(keyword)) {
+            PostingList postings = trigrams.get(trigram);
+            if (postings == null) {
+                return new ArrayList<>();
+            }
+            candidates.add(postings);
+        }
+        candidates.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = candidates.get(0);
+        ArrayList<Task> matchingTasks = new ArrayList<>();
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            if (isInAll(candidates, id)) {
+                Task task = tasks.get(id);
+                // Trigrams may appear in the task without being next to each other.
+                if (task.containsKeyword(keyword)) {
+                    matchingTasks.add(task);
+                }
+            }
+        }
+        return matchingTasks;
+    }
+
+    private static boolean isInAll(ArrayList<PostingList> candidates, long id) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addTerms(Task task, long id) {
+        String description = task.getDescription();
+        for (String word : splitWords(description)) {
+            words.computeIfAbsent(word, key -> new PostingList()).add(id);
+        }
+        for (long trigram : splitTrigrams(description)) {
+            trigrams.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+        }
+    }
+
+    private void removeTerms(Task task, long id) {
+        String description = task.getDescription();
+        for (String word : splitWords(description)) {
+            removePosting(words, word, id);
+        }
+        for (long trigram : splitTrigrams(description)) {
+            removePosting(trigrams, trigram, id);
+        }
+    }
+
+    private static <K> void removePosting(HashMap<K, PostingList> postingLists, K term, long id) {
+        PostingList postings = postingLists.get(term);
+        if (postings == null) {
+            return;
+        }
+        postings.remove(id);
+        if (postings.isEmpty()) {
+            postingLists.remove(term);
+        }
+    }
+
+    private static <K> void removePostings(HashMap<K, PostingList> postingLists,
+                                           HashMap<K, PostingList> removals) {
+        for (Map.Entry<K, PostingList> removal : removals.entrySet()) {
+            PostingList postings = postingLists.get(removal.getKey());
+            if (postings == null) {
+                continue;
+            }
+            postings.removeAll(removal.getValue());
+            if (postings.isEmpty()) {
+                postingLists.remove(removal.getKey());
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams in the text, each packed into a long
+     * as three 16-bit characters.
+     */
+    static LinkedHashSet<Long> splitTrigrams(String text) {
+        LinkedHashSet<Long> result = new LinkedHashSet<>();
+        for (int i = 0; i + MIN_SUBSTRING_LENGTH <= text.length(); i++) {
+            long trigram = ((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2);
+            result.add(trigram);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distinct words in the description, where a word is a run
+     * of letters and digits.
+     */
+    static LinkedHashSet<String> splitWords(String description) {
+        LinkedHashSet<String> result = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= description.length(); i++) {
+            boolean isWordCharacter = i < description.length()
+                    && Character.isLetterOrDigit(description.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                result.add(description.substring(start, i));
+                start = -1;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder for each command run, from executing it
+ * to saving the task list, so that pauses and I/O can be traced to the command.
+ */
+@Name("seedu.duke.Command")
+@Label("Command")
+@Category({"Duke", "Commands"})
+@Description("A command run by the user, from executing it to saving the task list.")
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command.")
+    public int taskCount;
+
+    @Label("Updates Task List")
+    public boolean isUpdatesTaskList;
+
+    @Label("Failed")
+    @Description("Whether the command failed, leaving the task list unchanged.")
+    public boolean isFailed;
+}
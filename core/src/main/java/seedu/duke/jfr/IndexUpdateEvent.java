@@ -0,0 +1,30 @@
+package seedu.duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded by Java Flight Recorder each time a command updates the date
+ * index or the search index.
+ */
+@Name("seedu.duke.IndexUpdate")
+@Label("Index Update")
+@Category({"Duke", "Indices"})
+@Description("An update of the date index or the search index after a command.")
+public class IndexUpdateEvent extends Event {
+    public static final String DATE_INDEX = "date";
+    public static final String SEARCH_INDEX = "search";
+
+    @Label("Index")
+    public String index;
+
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command.")
+    public int taskCount;
+}
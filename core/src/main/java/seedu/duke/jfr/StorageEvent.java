@@ -0,0 +1,45 @@
+package seedu.duke.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded by Java Flight Recorder for each read or write of the data files:
+ * loading them, appending to the operation log, syncing it, and rewriting
+ * the data file with a snapshot.
+ */
+@Name("seedu.duke.Storage")
+@Label("Storage Operation")
+@Category({"Duke", "Storage"})
+@Description("A read or write of the task data file or its operation log.")
+public class StorageEvent extends Event {
+    public static final String LOAD = "load";
+    public static final String APPEND = "append";
+    public static final String SYNC = "sync";
+    public static final String SNAPSHOT = "snapshot";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rewrite")
+    @Description("Whether the whole data file was rewritten, rather than appended to.")
+    public boolean isRewrite;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    @Label("Sync Time")
+    @Description("Time spent forcing the written bytes to disk.")
+    @Timespan
+    public long syncNanos;
+}
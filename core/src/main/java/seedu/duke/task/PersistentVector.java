@@ -0,0 +1,359 @@
+package seedu.duke.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Represents an immutable list of items backed by a 32-way tree.
+ * Every update returns a new vector that shares all untouched nodes with
+ * the old one, so getting, setting, inserting and removing an item by index
+ * only copies the O(log32 n) nodes along the path to that item.
+ *
+ * @param <T> Type of the items in the vector.
+ */
+final class PersistentVector<T> implements Iterable<T> {
+    private static final int MAX_WIDTH = 32;
+    private static final int MIN_WIDTH = MAX_WIDTH / 4;
+    private static final Node EMPTY_LEAF = new Node(new Object[0], null);
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentVector EMPTY = new PersistentVector<>(EMPTY_LEAF);
+
+    private final Node root;
+
+    /**
+     * Represents a node of the tree. Leaves hold the items themselves, while
+     * internal nodes hold their children together with the running total
+     * of the number of items under each child.
+     */
+    private static final class Node {
+        private final Object[] items;
+        private final int[] sizes;
+
+        private Node(Object[] items, int[] sizes) {
+            this.items = items;
+            this.sizes = sizes;
+        }
+
+        private static Node internal(Object[] children) {
+            int[] sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += ((Node) children[i]).size();
+                sizes[i] = total;
+            }
+            return new Node(children, sizes);
+        }
+
+        private boolean isLeaf() {
+            return sizes == null;
+        }
+
+        private int size() {
+            return isLeaf() ? items.length : sizes[sizes.length - 1];
+        }
+
+        private int width() {
+            return items.length;
+        }
+
+        /**
+         * Returns the position of the child holding the item at the given index.
+         */
+        private int findChild(int index) {
+            int child = 0;
+            while (sizes[child] <= index) {
+                child++;
+            }
+            return child;
+        }
+
+        private int offsetOf(int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+
+        private Node withItems(Object[] newItems) {
+            return isLeaf() ? new Node(newItems, null) : internal(newItems);
+        }
+    }
+
+    private PersistentVector(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <T> Type of the items in the vector.
+     * @return A vector without items.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the given items, built bottom up in linear time.
+     *
+     * @param items The items of the vector, in order.
+     * @param <T> Type of the items in the vector.
+     * @return A vector of the given items.
+     */
+    static <T> PersistentVector<T> of(List<? extends T> items) {
+        if (items.isEmpty()) {
+            return empty();
+        }
+        ArrayList<Node> level = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += MAX_WIDTH) {
+            int end = Math.min(start + MAX_WIDTH, items.size());
+            level.add(new Node(items.subList(start, end).toArray(), null));
+        }
+        while (level.size() > 1) {
+            ArrayList<Node> parents = new ArrayList<>();
+            for (int start = 0; start < level.size(); start += MAX_WIDTH) {
+                int end = Math.min(start + MAX_WIDTH, level.size());
+                parents.add(Node.internal(level.subList(start, end).toArray()));
+            }
+            level = parents;
+        }
+        return new PersistentVector<>(level.get(0));
+    }
+
+    int size() {
+        return root.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (!node.isLeaf()) {
+            int child = node.findChild(index);
+            index -= node.offsetOf(child);
+            node = (Node) node.items[child];
+        }
+        return (T) node.items[index];
+    }
+
+    PersistentVector<T> add(T item) {
+        return insert(size(), item);
+    }
+
+    PersistentVector<T> set(int index, T item) {
+        checkIndex(index, size());
+        return new PersistentVector<>(set(root, index, item));
+    }
+
+    PersistentVector<T> insert(int index, T item) {
+        checkIndex(index, size() + 1);
+        Node[] result = insert(root, index, item);
+        if (result.length == 1) {
+            return new PersistentVector<>(result[0]);
+        }
+        return new PersistentVector<>(Node.internal(result));
+    }
+
+    PersistentVector<T> remove(int index) {
+        checkIndex(index, size());
+        Node newRoot = remove(root, index);
+        // Drop levels that are left with a single child.
+        while (!newRoot.isLeaf() && newRoot.width() == 1) {
+            newRoot = (Node) newRoot.items[0];
+        }
+        return newRoot.size() == 0 ? empty() : new PersistentVector<>(newRoot);
+    }
+
+    private static Node set(Node node, int index, Object item) {
+        Object[] items = node.items.clone();
+        if (node.isLeaf()) {
+            items[index] = item;
+            return new Node(items, null);
+        }
+        int child = node.findChild(index);
+        items[child] = set((Node) items[child], index - node.offsetOf(child), item);
+        return new Node(items, node.sizes.clone());
+    }
+
+    /**
+     * Inserts the item into the subtree, returning either the new node or,
+     * if the node overflowed, the two halves it was split into.
+     */
+    private static Node[] insert(Node node, int index, Object item) {
+        if (node.isLeaf()) {
+            return splitIfFull(node, insertAt(node.items, index, item));
+        }
+        int child = node.findChild(Math.min(index, node.size() - 1));
+        Node[] newChildren = insert((Node) node.items[child], index - node.offsetOf(child), item);
+        Object[] items = node.items.clone();
+        items[child] = newChildren[0];
+        if (newChildren.length == 2) {
+            items = insertAt(items, child + 1, newChildren[1]);
+        }
+        return splitIfFull(node, items);
+    }
+
+    private static Node[] splitIfFull(Node node, Object[] items) {
+        if (items.length <= MAX_WIDTH) {
+            return new Node[] {node.withItems(items)};
+        }
+        int half = items.length / 2;
+        return new Node[] {
+            node.withItems(copyRange(items, 0, half)),
+            node.withItems(copyRange(items, half, items.length))
+        };
+    }
+
+    /**
+     * Removes the item from the subtree. Children that become too narrow
+     * are merged with a neighbour so that the tree stays shallow.
+     */
+    private static Node remove(Node node, int index) {
+        if (node.isLeaf()) {
+            return new Node(removeAt(node.items, index), null);
+        }
+        int child = node.findChild(index);
+        Node newChild = remove((Node) node.items[child], index - node.offsetOf(child));
+        Object[] items = node.items.clone();
+        items[child] = newChild;
+
+        if (newChild.size() == 0) {
+            items = removeAt(items, child);
+        } else if (newChild.width() < MIN_WIDTH && items.length > 1) {
+            int left = child > 0 ? child - 1 : child;
+            Node merged = merge((Node) items[left], (Node) items[left + 1]);
+            Object[] replacement = merged.width() <= MAX_WIDTH
+                    ? new Object[] {merged}
+                    : splitIfFull(merged, merged.items);
+            Object[] newItems = new Object[items.length - 2 + replacement.length];
+            System.arraycopy(items, 0, newItems, 0, left);
+            System.arraycopy(replacement, 0, newItems, left, replacement.length);
+            System.arraycopy(items, left + 2, newItems, left + replacement.length, items.length - left - 2);
+            items = newItems;
+        }
+        return items.length == 0 ? EMPTY_LEAF : Node.internal(items);
+    }
+
+    private static Node merge(Node left, Node right) {
+        Object[] items = new Object[left.width() + right.width()];
+        System.arraycopy(left.items, 0, items, 0, left.width());
+        System.arraycopy(right.items, 0, items, left.width(), right.width());
+        return left.withItems(items);
+    }
+
+    private static Object[] insertAt(Object[] items, int index, Object item) {
+        Object[] newItems = new Object[items.length + 1];
+        System.arraycopy(items, 0, newItems, 0, index);
+        newItems[index] = item;
+        System.arraycopy(items, index, newItems, index + 1, items.length - index);
+        return newItems;
+    }
+
+    private static Object[] removeAt(Object[] items, int index) {
+        Object[] newItems = new Object[items.length - 1];
+        System.arraycopy(items, 0, newItems, 0, index);
+        System.arraycopy(items, index + 1, newItems, index, items.length - index - 1);
+        return newItems;
+    }
+
+    private static Object[] copyRange(Object[] items, int from, int to) {
+        Object[] newItems = new Object[to - from];
+        System.arraycopy(items, from, newItems, 0, to - from);
+        return newItems;
+    }
+
+    /**
+     * Adds the nodes and items of this vector not already in the given set to it.
+     * Returns an estimate of the memory they take up, assuming compressed references.
+     *
+     * @param visited Identity set of the nodes and items already accounted for.
+     * @return Estimated size of the newly added nodes and items in bytes.
+     */
+    long addRetainedBytes(Set<Object> visited) {
+        long bytes = 0;
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            // Node header and fields, then the items array and the sizes array if any.
+            bytes += 24 + 16 + 4L * node.width();
+            if (!node.isLeaf()) {
+                bytes += 16 + 4L * node.width();
+                for (Object child : node.items) {
+                    pending.push((Node) child);
+                }
+                continue;
+            }
+            for (Object item : node.items) {
+                if (visited.add(item)) {
+                    bytes += estimateItemBytes(item);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateItemBytes(Object item) {
+        if (item instanceof Task) {
+            // Task header and fields, plus the description string and its bytes.
+            return 32 + 24 + 16 + ((Task) item).getDescription().length();
+        }
+        return 16;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    /**
+     * Returns an iterator over the items in order, walking the leaves one at a time.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final ArrayDeque<Node> pending = new ArrayDeque<>();
+            private Node leaf = EMPTY_LEAF;
+            private int position = 0;
+
+            {
+                pending.push(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (position >= leaf.width()) {
+                    if (pending.isEmpty()) {
+                        return false;
+                    }
+                    Node node = pending.pop();
+                    while (!node.isLeaf()) {
+                        for (int i = node.width() - 1; i > 0; i--) {
+                            pending.push((Node) node.items[i]);
+                        }
+                        node = (Node) node.items[0];
+                    }
+                    leaf = node;
+                    position = 0;
+                }
+                return true;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) leaf.items[position++];
+            }
+        };
+    }
+}
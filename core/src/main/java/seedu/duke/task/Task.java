@@ -49,6 +49,24 @@ public class Task {
         return this.description.contains(keyword);
     }
 
+    /**
+     * Returns the description of the task.
+     *
+     * @return Description of the task.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Checks if the task has been completed.
+     *
+     * @return true if the task is completed, false otherwise.
+     */
+    public boolean isCompleted() {
+        return isCompleted;
+    }
+
     /**
      * Returns the current date if not a date task.
      *
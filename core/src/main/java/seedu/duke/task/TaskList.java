@@ -0,0 +1,330 @@
+package seedu.duke.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents a tasklist. A <code>TaskList</code> records
+ * the tasks that the user have input. Task lists are immutable, and
+ * each version shares most of its structure with the version it came from.
+ */
+public class TaskList implements Iterable<Task> {
+    /**
+     * Bulk changes touching more than one in this many tasks rebuild the vector.
+     */
+    private static final int BULK_REBUILD_RATIO = 32;
+
+    /**
+     * Persistent vector of tasks that contains all the tasks to be completed.
+     */
+    private PersistentVector<Task> tasks;
+
+    /**
+     * Length of the tasks available.
+     */
+    private int length = 0;
+
+    /**
+     * Listens to the changes made to the task list by commands, by position.
+     * Indices are those of the task list after the changes reported before.
+     */
+    public interface Listener {
+        void taskAdded(int index, Task task);
+
+        void taskReplaced(int index, Task task);
+
+        void taskRemoved(int index);
+
+        /**
+         * Reports that the whole task list changed, such as when it is loaded or restored.
+         */
+        void taskListReset(TaskList taskList);
+    }
+
+    /**
+     * Empty TaskList constructor.
+     */
+    public TaskList() {
+        this.tasks = PersistentVector.empty();
+    }
+
+    /**
+     * TaskList constructor with tasks.
+     */
+    public TaskList(List<Task> tasks) {
+        this(PersistentVector.of(tasks));
+    }
+
+    private TaskList(PersistentVector<Task> tasks) {
+        this.tasks = tasks;
+        this.length = tasks.size();
+    }
+
+    /**
+     * Check if a task with the corresponding index is in the task list.
+     * Returns true if it is.
+     *
+     * @param index Index of task to be checked.
+     * @return boolean Indicate whether the task is in the task list.
+     */
+    public boolean isValidTaskIndex(int index) {
+        return index >= 0 && index < length;
+    }
+
+    /**
+     * Returns the specific task asked for.
+     *
+     * @param index Index of the task desired.
+     * @return The task corresponding to the index given.
+     */
+    public Task getTask(int index) {
+        return tasks.get(index);
+    }
+
+    /**
+     * Add a new task to the task list.
+     *
+     * @param newTask The task to be added.
+     * @return A new task list that contains the required tasks.
+     */
+    public TaskList add(Task newTask) {
+        return new TaskList(tasks.add(newTask));
+    }
+
+    /**
+     * Add all the given tasks to the task list at once.
+     *
+     * @param newTasks The tasks to be added, in order.
+     * @return A new task list that contains the required tasks.
+     */
+    public TaskList addAll(Collection<Task> newTasks) {
+        ArrayList<Task> newList = new ArrayList<>(length + newTasks.size());
+        for (Task task : tasks) {
+            newList.add(task);
+        }
+        newList.addAll(newTasks);
+        return new TaskList(PersistentVector.of(newList));
+    }
+
+    /**
+     * Returns a TaskList with all the tasks containing in the
+     * given keyword.
+     *
+     * @param keyword The string to search for among the tasks in the
+     *                task list.
+     * @return TaskList of the tasks containing the keyword.
+     */
+    public TaskList findTasksByKeyword(String keyword) {
+        ArrayList<Task> matchingTasks = new ArrayList<>();
+        for (Task task : this.tasks) {
+            if (task.containsKeyword(keyword)) {
+                // Add task to the list of matching tasks.
+                matchingTasks.add(task);
+            }
+        }
+        return new TaskList(matchingTasks);
+    }
+
+    /**
+     * Mark a specific task as completed.
+     *
+     * @param index Index of the task to be marked as completed.
+     * @return The task that was marked as completed.
+     */
+    public TaskList markTaskAsCompleted(int index) {
+        Task task = tasks.get(index);
+        Task completedTask = task.markAsCompleted();
+        return new TaskList(tasks.set(index, completedTask));
+    }
+
+    /**
+     * Delete task from the task list.
+     *
+     * @param index Index of the task to be deleted.
+     * @return A new task list that contains the remaining tasks.
+     */
+    public TaskList deleteTask(int index) {
+        return new TaskList(tasks.remove(index));
+    }
+
+    /**
+     * Mark several tasks as completed at once.
+     *
+     * @param indices Indices of the tasks to be marked as completed, in increasing order.
+     * @return A new task list with the tasks marked as completed.
+     */
+    public TaskList markTasksAsCompleted(int[] indices) {
+        if (isFewChanges(indices)) {
+            PersistentVector<Task> newTasks = tasks;
+            for (int index : indices) {
+                newTasks = newTasks.set(index, newTasks.get(index).markAsCompleted());
+            }
+            return new TaskList(newTasks);
+        }
+
+        // Copying every task once is cheaper than copying a path of the tree per task.
+        ArrayList<Task> newList = new ArrayList<>(length);
+        for (Task task : tasks) {
+            newList.add(task);
+        }
+        for (int index : indices) {
+            newList.set(index, newList.get(index).markAsCompleted());
+        }
+        return new TaskList(PersistentVector.of(newList));
+    }
+
+    /**
+     * Delete several tasks from the task list at once.
+     *
+     * @param indices Indices of the tasks to be deleted, in increasing order.
+     * @return A new task list that contains the remaining tasks.
+     */
+    public TaskList deleteTasks(int[] indices) {
+        if (isFewChanges(indices)) {
+            PersistentVector<Task> newTasks = tasks;
+            // Deleting from the back keeps the remaining indices in place.
+            for (int i = indices.length - 1; i >= 0; i--) {
+                newTasks = newTasks.remove(indices[i]);
+            }
+            return new TaskList(newTasks);
+        }
+
+        ArrayList<Task> newList = new ArrayList<>(length - indices.length);
+        int next = 0;
+        int index = 0;
+        for (Task task : tasks) {
+            if (next < indices.length && indices[next] == index) {
+                next++;
+            } else {
+                newList.add(task);
+            }
+            index++;
+        }
+        return new TaskList(PersistentVector.of(newList));
+    }
+
+    /**
+     * Returns the indices of the tasks containing the given keyword, in increasing order.
+     *
+     * @param keyword The string to search for among the tasks in the task list.
+     * @return Indices of the tasks containing the keyword.
+     */
+    public int[] findIndicesByKeyword(String keyword) {
+        int[] indices = new int[length];
+        int count = 0;
+        int index = 0;
+        for (Task task : tasks) {
+            if (task.containsKeyword(keyword)) {
+                indices[count++] = index;
+            }
+            index++;
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Returns the indices of the given tasks, which must be in the task list
+     * in the same order. Tasks are matched by identity, so no task is compared
+     * by its contents, but the list is still walked once to count positions.
+     *
+     * @param matchingTasks Tasks in the task list, in the order they are listed.
+     * @return Indices of the tasks, in increasing order.
+     */
+    public int[] indicesOf(List<Task> matchingTasks) {
+        int[] indices = new int[matchingTasks.size()];
+        int count = 0;
+        int index = 0;
+        for (Task task : tasks) {
+            if (count == indices.length) {
+                break;
+            }
+            if (task == matchingTasks.get(count)) {
+                indices[count++] = index;
+            }
+            index++;
+        }
+        assert count == indices.length : "Every task is in the task list.";
+        return indices;
+    }
+
+    /**
+     * Checks if so few tasks are changed that updating the vector in place
+     * is cheaper than building a new one.
+     */
+    private boolean isFewChanges(int[] indices) {
+        return indices.length <= length / BULK_REBUILD_RATIO;
+    }
+
+    /**
+     * Gets the status of the current task list.
+     * Return the String describing the number of tasks in the task list.
+     *
+     * @return String representation of the number of tasks in the task list.
+     */
+    public String status() {
+        String t = this.length != 1 ? "tasks" : "task";
+        return String.format("Now you have %d %s in the list.",
+                this.length, t);
+    }
+
+    /**
+     * Returns the number of tasks in the task list.
+     *
+     * @return Number of tasks in the task list.
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Check if the task list is empty.
+     *
+     * @return true if there is not tasks in the list, false otherwise.
+     */
+    public boolean isEmpty() {
+        return length <= 0;
+    }
+
+    /**
+     * Adds the parts of this task list not already in the given set to it.
+     * Returns an estimate of the memory taken up by the newly added parts.
+     *
+     * @param visited Identity set of the parts already accounted for.
+     * @return Estimated size of the newly added parts in bytes.
+     */
+    public long addRetainedBytes(Set<Object> visited) {
+        return tasks.addRetainedBytes(visited);
+    }
+
+    /**
+     * Returns an iterator over the tasks in the order they are listed.
+     *
+     * @return Iterator over the tasks in the task list.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return tasks.iterator();
+    }
+
+    /**
+     * Returns the String representation of the task list.
+     *
+     * @return String representation of the respective tasks
+     * in the task list.
+     */
+    @Override
+    public String toString() {
+        // Appending to one builder keeps long lists linear rather than quadratic.
+        StringBuilder str = new StringBuilder();
+        int i = 1;
+        for (Task item : tasks) {
+            str.append("    ").append(i).append(". ").append(item).append('\n');
+            i++;
+        }
+        return str.toString();
+    }
+}
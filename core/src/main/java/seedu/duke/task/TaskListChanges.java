@@ -0,0 +1,63 @@
+package seedu.duke.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects the changes reported to a task list listener, so that they can be
+ * applied together to a list of the tasks later, such as on another thread.
+ * Changes may be reported and taken on different threads.
+ */
+public class TaskListChanges implements TaskList.Listener {
+    private final List<Consumer<List<Task>>> pendingChanges = new ArrayList<>();
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        pendingChanges.add(list -> list.add(index, task));
+    }
+
+    @Override
+    public synchronized void taskReplaced(int index, Task task) {
+        pendingChanges.add(list -> list.set(index, task));
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index) {
+        pendingChanges.add(list -> list.remove(index));
+    }
+
+    /**
+     * Replaces every task at once. Changes still waiting to be taken are dropped.
+     */
+    @Override
+    public synchronized void taskListReset(TaskList taskList) {
+        ArrayList<Task> newTasks = new ArrayList<>(taskList.size());
+        for (Task task : taskList) {
+            newTasks.add(task);
+        }
+        pendingChanges.clear();
+        pendingChanges.add(list -> {
+            list.clear();
+            list.addAll(newTasks);
+        });
+    }
+
+    /**
+     * Takes the changes reported so far, to be applied in the order they were reported.
+     *
+     * @return The changes to apply to a list of the tasks, or null if there are none.
+     */
+    public synchronized Consumer<List<Task>> takeChanges() {
+        if (pendingChanges.isEmpty()) {
+            return null;
+        }
+        List<Consumer<List<Task>>> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return list -> {
+            for (Consumer<List<Task>> change : changes) {
+                change.accept(list);
+            }
+        };
+    }
+}
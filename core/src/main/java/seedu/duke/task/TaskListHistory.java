@@ -0,0 +1,96 @@
+package seedu.duke.task;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Represents the undo and redo history of a task list. A <code>TaskListHistory</code>
+ * keeps at most a fixed number of earlier versions, so that older versions
+ * can be garbage collected.
+ */
+public class TaskListHistory {
+    private final int depth;
+    private final ArrayDeque<TaskList> undoVersions = new ArrayDeque<>();
+    private final ArrayDeque<TaskList> redoVersions = new ArrayDeque<>();
+
+    /**
+     * Public constructor for a <code>TaskListHistory</code>.
+     *
+     * @param depth Maximum number of versions that can be undone.
+     */
+    public TaskListHistory(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Records the version of the task list before a change, dropping the
+     * oldest version if the history is full. Clears the versions to redo.
+     *
+     * @param previous The task list before the change.
+     */
+    public void record(TaskList previous) {
+        if (depth <= 0) {
+            return;
+        }
+        undoVersions.push(previous);
+        if (undoVersions.size() > depth) {
+            undoVersions.removeLast();
+        }
+        redoVersions.clear();
+    }
+
+    public boolean canUndo() {
+        return !undoVersions.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoVersions.isEmpty();
+    }
+
+    /**
+     * Returns the version before the current one.
+     *
+     * @param current The current task list, which can be restored by redoing.
+     * @return The previous version of the task list.
+     */
+    public TaskList undo(TaskList current) {
+        assert canUndo() : "There is a version to undo.";
+        redoVersions.push(current);
+        return undoVersions.pop();
+    }
+
+    /**
+     * Returns the version that was last undone.
+     *
+     * @param current The current task list, which can be restored by undoing.
+     * @return The version of the task list that was undone.
+     */
+    public TaskList redo(TaskList current) {
+        assert canRedo() : "There is a version to redo.";
+        undoVersions.push(current);
+        return redoVersions.pop();
+    }
+
+    /**
+     * Returns a description of the versions kept and the memory they use on top
+     * of the current task list, counting parts shared between versions once.
+     *
+     * @param current The current task list.
+     * @return String representation of the status of the history.
+     */
+    public String status(TaskList current) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addRetainedBytes(visited);
+        long bytes = 0;
+        for (TaskList version : undoVersions) {
+            bytes += version.addRetainedBytes(visited);
+        }
+        for (TaskList version : redoVersions) {
+            bytes += version.addRetainedBytes(visited);
+        }
+        return String.format("History: %d of %d versions to undo, %d to redo, using about %.1f KB.",
+                undoVersions.size(), depth, redoVersions.size(), bytes / 1024.0);
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.duke.task.Task;
+import seedu.duke.task.ToDo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkedTaskLoaderTest {
+    private static final int SMALL_CHUNK_BYTES = 16;
+
+    @TempDir
+    File tempFolder;
+
+    private static Task parse(String line) throws DukeException {
+        if (line.startsWith("bad")) {
+            throw new DukeException("Invalid task.");
+        }
+        return new ToDo(line);
+    }
+
+    /**
+     * Returns the lines of the file as they would be loaded one at a time.
+     */
+    private static List<String> parseLineByLine(File file) throws IOException {
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                descriptions.add(line);
+            }
+        }
+        return descriptions;
+    }
+
+    private static List<String> descriptionsOf(List<Task> tasks) {
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (Task task : tasks) {
+            descriptions.add(task.getDescription());
+        }
+        return descriptions;
+    }
+
+    private File writeLines(String lineSeparator, int count) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i % 7 == 3) {
+                text.append("# comment ").append(i);
+            } else if (i % 11 != 5) {
+                text.append("task ").append(i);
+            }
+            text.append(lineSeparator);
+        }
+        File file = new File(tempFolder, "tasks.text");
+        Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void findChunkBoundaries_smallChunks_endAfterLineBreaks() throws IOException {
+        File file = writeLines("\n", 200);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        long[] boundaries = ChunkedTaskLoader.findChunkBoundaries(ByteBuffer.wrap(bytes),
+                bytes.length, SMALL_CHUNK_BYTES);
+
+        assertTrue(boundaries.length > 2);
+        assertEquals(0, boundaries[0]);
+        assertEquals(bytes.length, boundaries[boundaries.length - 1]);
+        for (int i = 1; i < boundaries.length - 1; i++) {
+            assertTrue(boundaries[i] > boundaries[i - 1]);
+            assertEquals('\n', bytes[(int) boundaries[i] - 1]);
+        }
+    }
+
+    @Test
+    public void load_manyChunks_sameAsLineByLine() throws IOException, DukeException {
+        File file = writeLines("\n", 500);
+        List<Task> tasks = ChunkedTaskLoader.load(file, ChunkedTaskLoaderTest::parse, SMALL_CHUNK_BYTES);
+        assertEquals(parseLineByLine(file), descriptionsOf(tasks));
+    }
+
+    @Test
+    public void load_crlfLineEndings_sameAsLineByLine() throws IOException, DukeException {
+        File file = writeLines("\r\n", 500);
+        List<Task> tasks = ChunkedTaskLoader.load(file, ChunkedTaskLoaderTest::parse, SMALL_CHUNK_BYTES);
+        assertEquals(parseLineByLine(file), descriptionsOf(tasks));
+    }
+
+    @Test
+    public void load_badLineInLaterChunk_throwsDukeException() throws IOException {
+        File file = writeLines("\n", 500);
+        Files.write(file.toPath(), "bad line\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DukeException.class,
+                () -> ChunkedTaskLoader.load(file, ChunkedTaskLoaderTest::parse, SMALL_CHUNK_BYTES));
+    }
+}
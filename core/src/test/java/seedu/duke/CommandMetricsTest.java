@@ -0,0 +1,67 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.duke.command.ListCommand;
+import seedu.duke.task.TaskList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    Path tempFolder;
+
+    @Test
+    public void render_recordedCommands_countsAndLatencies() {
+        CommandMetrics metrics = new CommandMetrics();
+        ListCommand list = new ListCommand(new Ui(), new TaskList());
+        metrics.record(list, 1000, 3000, 0, 0);
+        metrics.record(list, 1000, 5000, 0, 0);
+        metrics.recordParseError();
+
+        String rendered = metrics.render();
+
+        assertTrue(rendered.contains("ListCommand x2"));
+        // Mean of 3us and 5us; the bound of the p99 bucket is capped at the largest latency.
+        assertTrue(rendered.contains("execute 4/5"));
+        assertTrue(rendered.contains("Invalid commands: 1"));
+    }
+
+    @Test
+    public void writeTo_recordedCommands_writesJson() throws IOException {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record(new ListCommand(new Ui(), new TaskList()), 1, 2, 3, 4);
+        Path file = tempFolder.resolve("metrics.json");
+
+        metrics.writeTo(file);
+
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"ListCommand\": {\"count\": 1"));
+        assertTrue(json.contains("\"persist\": {\"count\": 1, \"totalNanos\": 4"));
+    }
+
+    @Test
+    public void recordFailure_failedCommand_countedWithoutLaterPhases() throws IOException {
+        CommandMetrics metrics = new CommandMetrics();
+        ListCommand list = new ListCommand(new Ui(), new TaskList());
+        metrics.record(list, 1000, 3000, 1000, 1000);
+        metrics.recordFailure(list, 1000, 5000);
+        Path file = tempFolder.resolve("metrics.json");
+
+        metrics.writeTo(file);
+
+        assertTrue(metrics.render().contains("ListCommand x2 (1 failed)"));
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"ListCommand\": {\"count\": 2, \"failures\": 1"));
+        assertTrue(json.contains("\"execute\": {\"count\": 2"));
+        assertTrue(json.contains("\"persist\": {\"count\": 1"));
+    }
+
+}
@@ -0,0 +1,40 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.command.ListCommand;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void find_keywordsAndAliases_sameParser() {
+        CommandRegistry registry = new CommandRegistry();
+        CommandRegistry.CommandParser remind = tokens -> null;
+        CommandRegistry.CommandParser redo = tokens -> null;
+        registry.register("remind", "remind | get the upcoming tasks", remind, "reminder");
+        registry.register("redo", "redo | redo the last change", redo);
+
+        String input = "x reminder redo re";
+        assertSame(remind, registry.find(input, 2, 10));
+        assertSame(remind, registry.find(input, 2, 8));
+        assertSame(redo, registry.find(input, 11, 15));
+        assertNull(registry.find(input, 16, 18));
+        assertNull(registry.find("reminders", 0, 9));
+    }
+
+    @Test
+    public void getHelpText_renderedOnce() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", ListCommand.USAGE, tokens -> null);
+
+        String helpText = registry.getHelpText();
+
+        assertTrue(helpText.contains(ListCommand.USAGE));
+        assertSame(helpText, registry.getHelpText());
+    }
+
+}
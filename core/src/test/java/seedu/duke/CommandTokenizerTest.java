@@ -0,0 +1,41 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandTokenizerTest {
+
+    @Test
+    public void nextToken_repeatedSpaces_skipped() {
+        CommandTokenizer tokenizer = new CommandTokenizer();
+        tokenizer.reset("get  17/09/2021   12  ");
+
+        assertTrue(tokenizer.nextToken());
+        assertTrue(tokenizer.isToken("get"));
+        assertTrue(tokenizer.nextToken());
+        assertEquals(LocalDate.of(2021, 9, 17), tokenizer.tokenAsDate());
+        assertTrue(tokenizer.nextToken());
+        assertEquals(12, tokenizer.tokenAsNumber());
+        assertFalse(tokenizer.hasNextToken());
+        assertFalse(tokenizer.nextToken());
+    }
+
+    @Test
+    public void findLast_descriptionWithMarker_lastMarkerUsed() {
+        CommandTokenizer tokenizer = new CommandTokenizer();
+        tokenizer.reset("deadline read /by chapter 2 /by 17/09/2021");
+        tokenizer.nextToken();
+
+        int indexOfDate = tokenizer.findLast("/by ");
+
+        assertEquals("read /by chapter 2", tokenizer.restUntil(indexOfDate));
+        assertEquals(LocalDate.of(2021, 9, 17), tokenizer.dateFrom(indexOfDate + "/by ".length()));
+        assertEquals(-1, tokenizer.findLast("/at "));
+    }
+
+}
@@ -0,0 +1,33 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DateScannerTest {
+
+    private static LocalDate scan(String text) {
+        return DateScanner.scan(text, 0, text.length());
+    }
+
+    @Test
+    public void scan_validDates_sameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/MM/yyyy");
+        for (String date : new String[] {"23/03/2001", "1/12/2021", "29/02/2024", "31/04/2021", "30/02/2023"}) {
+            assertEquals(LocalDate.parse(date, formatter), scan(date));
+        }
+    }
+
+    @Test
+    public void scan_invalidDates_null() {
+        for (String date : new String[] {"", "23-3-2001", "23/3/2001", "123/03/2001", "32/01/2021",
+            "0/01/2021", "1/13/2021", "1/01/21", "1/01/2021 ", "a1/01/2021", "1/01/0000"}) {
+            assertNull(scan(date), date);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DukeTest {
+
+    /**
+     * Scripts write each reply returned by getResponse through their own writer,
+     * so nothing should reach the console on the side.
+     */
+    @Test
+    public void getResponse_help_printsNothingToConsole() {
+        Duke duke = new Duke();
+        PrintStream console = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        String response;
+        try {
+            System.setOut(new PrintStream(printed, true, StandardCharsets.UTF_8));
+            response = duke.getResponse("help");
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals("", printed.toString(StandardCharsets.UTF_8));
+        assertTrue(response.startsWith("Here are the available commands:"));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReminderSchedulerTest {
+    private static final LocalDate TODAY = LocalDate.of(2021, 9, 17);
+    private static final Clock CLOCK = Clock.fixed(
+            TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    @Test
+    public void start_pendingTasksDueToday_remindedOnce() throws InterruptedException {
+        BlockingQueue<List<Task>> reminded = new LinkedBlockingQueue<>();
+        ReminderScheduler scheduler = new ReminderScheduler(CLOCK, reminded::add);
+        DateIndex dateIndex = new DateIndex();
+        dateIndex.setListener(scheduler);
+        Task report = new Deadline("submit report", TODAY);
+        Task talk = new Event("attend talk", TODAY.plusDays(1));
+        Task deleted = new Deadline("pay fees", TODAY);
+        Task completed = new Deadline("do quiz", TODAY);
+        dateIndex.add(report);
+        dateIndex.add(talk);
+        dateIndex.add(deleted);
+        dateIndex.add(completed);
+        dateIndex.add(new Deadline("past", TODAY.minusDays(1)));
+        dateIndex.remove(deleted);
+        dateIndex.replace(completed, new Deadline("do quiz", TODAY, true));
+
+        scheduler.start();
+        try {
+            assertEquals(List.of(report), reminded.poll(5, TimeUnit.SECONDS));
+            assertNull(reminded.poll(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, scheduler.size());
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void taskAdded_whileWaiting_wakesScheduler() throws InterruptedException {
+        BlockingQueue<List<Task>> reminded = new LinkedBlockingQueue<>();
+        ReminderScheduler scheduler = new ReminderScheduler(CLOCK, reminded::add);
+        DateIndex dateIndex = new DateIndex();
+        dateIndex.setListener(scheduler);
+        dateIndex.add(new Event("attend talk", TODAY.plusDays(30)));
+        scheduler.start();
+        try {
+            assertNull(reminded.poll(100, TimeUnit.MILLISECONDS));
+
+            Task report = new Deadline("submit report", TODAY);
+            dateIndex.add(report);
+
+            assertEquals(List.of(report), reminded.poll(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void rebuild_afterReminder_notRemindedAgain() throws InterruptedException {
+        BlockingQueue<List<Task>> reminded = new LinkedBlockingQueue<>();
+        ReminderScheduler scheduler = new ReminderScheduler(CLOCK, reminded::add);
+        DateIndex dateIndex = new DateIndex();
+        dateIndex.setListener(scheduler);
+        Task report = new Deadline("submit report", TODAY);
+        dateIndex.add(report);
+        scheduler.start();
+        try {
+            assertEquals(List.of(report), reminded.poll(5, TimeUnit.SECONDS));
+
+            // An undo rebuilds the index, adding every dated task again.
+            dateIndex.rebuild(new TaskList(List.of(report)));
+
+            assertNull(reminded.poll(200, TimeUnit.MILLISECONDS));
+            assertEquals(0, scheduler.size());
+        } finally {
+            scheduler.stop();
+        }
+    }
+
+}
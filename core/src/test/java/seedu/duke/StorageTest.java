@@ -0,0 +1,241 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.duke.index.DateIndex;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.ToDo;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+public class StorageTest {
+
+    @TempDir
+    File tempFolder;
+
+    @Test
+    public void loadData_fileNotFound_doesNotThrowException() {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        TaskList taskList = new TaskList();
+        DateIndex dateIndex = new DateIndex();
+        Storage storage = new Storage(filePath, dateIndex);
+        assertDoesNotThrow(() -> storage.loadData(taskList));
+    }
+
+    @Test
+    public void loadData_fileNotFound_createsNewFile() {
+        TaskList taskList = new TaskList();
+        DateIndex dateIndex = new DateIndex();
+
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, dateIndex);
+        storage.loadData(taskList);
+
+        File file = new File(filePath);
+        assertTrue(file.exists());
+    }
+
+    @Test
+    public void addTask_validTask_updateFile() {
+        Task toAdd = new ToDo("eat lunch");
+        String filePath = tempFolder.getPath() + "/temp.text";
+        DateIndex dateIndex = new DateIndex();
+        Storage storage = new Storage(filePath, dateIndex);
+        storage.addTaskToFile(toAdd);
+        storage.flush();
+        String lastLine = "";
+        String line;
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(filePath + ".log"));
+            while ((line = reader.readLine()) != null) {
+                lastLine = line;
+            }
+            assertEquals(lastLine, "add " + toAdd.toString());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void loadData_operationLog_replaysMutations() {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        DateIndex dateIndex = new DateIndex();
+        Storage storage = new Storage(filePath, dateIndex);
+        storage.addTaskToFile(new ToDo("eat lunch"));
+        storage.addTaskToFile(new Deadline("submit report", LocalDate.of(2021, 9, 17)));
+        storage.addTaskToFile(new ToDo("read book"));
+        storage.markTaskAsCompleted(1);
+        storage.deleteTaskFromFile(0);
+        storage.flush();
+
+        DateIndex loadedDateIndex = new DateIndex();
+        TaskList taskList = new Storage(filePath, loadedDateIndex).loadData(new TaskList());
+
+        assertEquals("[D][X] submit report (by: 2021-09-17)", taskList.getTask(0).toString());
+        assertEquals("[T][ ] read book", taskList.getTask(1).toString());
+        assertFalse(taskList.isValidTaskIndex(2));
+        assertEquals(taskList.getTask(0),
+                loadedDateIndex.getTasksOn(LocalDate.of(2021, 9, 17)).get(0));
+    }
+
+    @Test
+    public void loadData_bulkRecords_replaysAsOneChange() throws IOException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        for (int i = 1; i <= 6; i++) {
+            storage.addTaskToFile(new Deadline("task " + i, LocalDate.of(2021, 9, i)));
+        }
+        storage.markTasksAsCompleted(new int[] {0, 1, 2, 4});
+        storage.deleteTasksFromFile(new int[] {1, 3, 4, 5});
+        storage.flush();
+
+        BufferedReader reader = new BufferedReader(new FileReader(filePath + ".log"));
+        String line;
+        String lastLine = "";
+        while ((line = reader.readLine()) != null) {
+            lastLine = line;
+        }
+        reader.close();
+        assertEquals("delete 1,3-5", lastLine);
+
+        DateIndex dateIndex = new DateIndex();
+        TaskList taskList = new Storage(filePath, dateIndex).loadData(new TaskList());
+        assertEquals("[D][X] task 1 (by: 2021-09-01)", taskList.getTask(0).toString());
+        assertEquals("[D][X] task 3 (by: 2021-09-03)", taskList.getTask(1).toString());
+        assertFalse(taskList.isValidTaskIndex(2));
+        assertEquals(2, dateIndex.size());
+    }
+
+    @Test
+    public void checkpoint_logPastThreshold_compactsIntoSnapshot() {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex(), 2, Long.MAX_VALUE);
+        storage.loadData(new TaskList());
+
+        TaskList taskList = new TaskList();
+        for (String description : new String[] {"eat lunch", "read book", "buy milk"}) {
+            Task task = new ToDo(description);
+            taskList = taskList.add(task);
+            storage.addTaskToFile(task);
+        }
+        storage.checkpoint(taskList);
+        storage.awaitCompaction();
+        storage.deleteTaskFromFile(0);
+        storage.close();
+
+        assertFalse(new File(filePath + ".log.0").exists());
+        TaskList loaded = new Storage(filePath, new DateIndex()).loadData(new TaskList());
+        assertEquals("[T][ ] read book", loaded.getTask(0).toString());
+        assertEquals("[T][ ] buy milk", loaded.getTask(1).toString());
+        assertFalse(loaded.isValidTaskIndex(2));
+    }
+
+    @Test
+    public void convertTo_binary_preservesTasks() throws IOException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        storage.addTaskToFile(new ToDo("read [chapter 1]"));
+        storage.addTaskToFile(new Deadline("call mum (urgent)", LocalDate.of(2021, 9, 17), true));
+        storage.flush();
+        TaskList taskList = storage.loadData(new TaskList());
+
+        storage.convertTo(Storage.Format.BINARY, taskList);
+
+        assertTrue(BinaryTaskFormat.isBinary(new File(filePath)));
+        DateIndex dateIndex = new DateIndex();
+        TaskList loaded = new Storage(filePath, dateIndex).loadData(new TaskList());
+        assertEquals("[T][ ] read [chapter 1]", loaded.getTask(0).toString());
+        assertEquals("[D][X] call mum (urgent) (by: 2021-09-17)", loaded.getTask(1).toString());
+        assertEquals(1, dateIndex.getTasksOn(LocalDate.of(2021, 9, 17)).size());
+    }
+
+    @Test
+    public void addTask_everyOperationDurability_writtenBeforeReturning() throws IOException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        storage.setDurability(Storage.Durability.EVERY_OPERATION);
+        storage.addTaskToFile(new ToDo("eat lunch"));
+
+        BufferedReader reader = new BufferedReader(new FileReader(filePath + ".log"));
+        assertEquals("add [T][ ] eat lunch", reader.readLine());
+        reader.close();
+        storage.close();
+    }
+
+    @Test
+    public void rewriteFile_reloadedWithoutClosing_undoneChangeStaysUndone() throws DukeException, IOException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        storage.loadData(new TaskList());
+        Task first = new ToDo("eat lunch");
+        storage.addTaskToFile(first);
+        storage.addTaskToFile(new ToDo("read book"));
+
+        // Undo the second task, then add another, leaving the storage open as if Duke crashed.
+        storage.rewriteFile(new TaskList().add(first));
+        // The snapshot already replaces the records of both tasks.
+        assertEquals(List.of("# snapshot 1", "[T][ ] eat lunch"), Files.readAllLines(Paths.get(filePath)));
+        assertFalse(new File(filePath + ".log.0").exists());
+        storage.addTaskToFile(new ToDo("buy milk"));
+        storage.flush();
+
+        TaskList loaded = new Storage(filePath, new DateIndex()).loadData(new TaskList());
+        assertEquals("[T][ ] eat lunch", loaded.getTask(0).toString());
+        assertEquals("[T][ ] buy milk", loaded.getTask(1).toString());
+        assertFalse(loaded.isValidTaskIndex(2));
+    }
+
+    @Test
+    public void loadData_nonAsciiDescription_readAsWritten() {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        storage.addTaskToFile(new ToDo("meet at the caf\u00e9"));
+        storage.close();
+
+        TaskList loaded = new Storage(filePath, new DateIndex()).loadData(new TaskList());
+        assertEquals("[T][ ] meet at the caf\u00e9", loaded.getTask(0).toString());
+    }
+
+    @Test
+    public void rewriteFile_nonAsciiDescription_readAsWritten() throws DukeException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        Storage storage = new Storage(filePath, new DateIndex());
+        storage.rewriteFile(new TaskList().add(new ToDo("meet at the caf\u00e9")));
+        storage.close();
+
+        TaskList loaded = new Storage(filePath, new DateIndex()).loadData(new TaskList());
+        assertEquals("[T][ ] meet at the caf\u00e9", loaded.getTask(0).toString());
+    }
+
+    @Test
+    public void checkpoint_nonAsciiLogPastByteLimit_compactsIntoSnapshot() throws IOException {
+        String filePath = tempFolder.getPath() + "/temp.text";
+        // The record has fewer than 24 characters but more than 24 bytes in UTF-8.
+        Storage storage = new Storage(filePath, new DateIndex(), Integer.MAX_VALUE, 24);
+        storage.loadData(new TaskList());
+        Task task = new ToDo("\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9");
+        storage.addTaskToFile(task);
+
+        storage.checkpoint(new TaskList().add(task));
+        storage.close();
+
+        assertEquals("# snapshot 1", Files.readAllLines(Paths.get(filePath)).get(0));
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TaskNumberScannerTest {
+
+    private static int[] scan(String text, int taskCount) throws DukeException {
+        return TaskNumberScanner.scan(text, 0, text.length(), taskCount);
+    }
+
+    @Test
+    public void scan_numbersAndRanges_sortedDistinctIndices() throws DukeException {
+        assertArrayEquals(new int[] {2}, scan("3", 5));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, scan("1-5", 5));
+        assertArrayEquals(new int[] {1, 2, 3, 6, 9}, scan("10, 7,2-4 ,3", 10));
+    }
+
+    @Test
+    public void scan_invalidNumbers_exceptionThrown() {
+        for (String text : new String[] {"", "a", "1,", "1-", "-3", "1--3", "1 2", "1234567890"}) {
+            assertThrows(DukeException.class, () -> scan(text, 10), text);
+        }
+        assertThrows(DukeException.class, () -> scan("0", 10));
+        assertThrows(DukeException.class, () -> scan("3-11", 10));
+        assertThrows(DukeException.class, () -> scan("5-2", 10));
+    }
+
+}
@@ -0,0 +1,71 @@
+package seedu.duke.index;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+import seedu.duke.task.ToDo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DateIndexTest {
+
+    @Test
+    public void rangeQueries_tasksOnSeveralDays_sortedByDate() {
+        DateIndex index = new DateIndex();
+        Task report = new Deadline("submit report", LocalDate.of(2021, 9, 17));
+        Task talk = new Event("attend talk", LocalDate.of(2021, 9, 3));
+        Task past = new Deadline("pay fees", LocalDate.of(2021, 8, 1));
+        Task quiz = new Deadline("do quiz", LocalDate.of(2021, 9, 17));
+        index.add(report);
+        index.add(talk);
+        index.add(past);
+        index.add(quiz);
+        index.add(new ToDo("read book"));
+
+        assertEquals(List.of(talk, report, quiz), index.getTasksAfter(LocalDate.of(2021, 8, 1)));
+        assertEquals(List.of(report, quiz), index.getTasksOn(LocalDate.of(2021, 9, 17)));
+        assertEquals(4, index.size());
+
+        ArrayList<Task> between = new ArrayList<>();
+        ArrayList<Integer> positions = new ArrayList<>();
+        int count = index.forEachBetween(LocalDate.of(2021, 7, 1), LocalDate.of(2021, 9, 16),
+                (task, position) -> {
+                    between.add(task);
+                    positions.add(position);
+                });
+        assertEquals(List.of(past, talk), between);
+        assertEquals(List.of(0, 1), positions);
+        assertEquals(2, count);
+        assertEquals(0, index.forEachBetween(LocalDate.of(2021, 9, 17), LocalDate.of(2021, 9, 16),
+                (task, position) -> between.add(task)));
+    }
+
+    @Test
+    public void replaceAndRemove_sameDay_orderKept() {
+        DateIndex index = new DateIndex();
+        LocalDate date = LocalDate.of(2021, 9, 17);
+        Task first = new Deadline("submit report", date);
+        Task second = new Deadline("do quiz", date);
+        Task third = new Event("attend talk", date);
+        index.add(first);
+        index.add(second);
+        index.add(third);
+
+        Task completed = new Deadline("submit report", date, true);
+        index.replace(first, completed);
+        index.remove(second);
+
+        assertEquals(List.of(completed, third), index.getTasksOn(date));
+        index.remove(completed);
+        index.remove(third);
+        assertTrue(index.getTasksAfter(date.minusDays(1)).isEmpty());
+    }
+
+}
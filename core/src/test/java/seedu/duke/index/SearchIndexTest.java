@@ -0,0 +1,95 @@
+package seedu.duke.index;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+import seedu.duke.task.ToDo;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexTest {
+
+    @Test
+    public void findWord_wholeWordsOnly_inListOrder() {
+        SearchIndex index = new SearchIndex();
+        Task readBook = new ToDo("read book");
+        Task notebook = new ToDo("buy notebook");
+        Task bookClub = new ToDo("book club, book fair");
+        index.add(readBook);
+        index.add(notebook);
+        index.add(bookClub);
+
+        assertEquals(List.of(readBook, bookClub), index.findWord("book"));
+        assertTrue(index.findWord("Book").isEmpty());
+    }
+
+    @Test
+    public void findWord_afterReplaceAndRemove_reflectsChanges() {
+        SearchIndex index = new SearchIndex();
+        Task readBook = new ToDo("read book");
+        Task returnBook = new ToDo("return book");
+        index.add(readBook);
+        index.add(returnBook);
+
+        Task doneBook = readBook.markAsCompleted();
+        index.replace(readBook, doneBook);
+        index.remove(returnBook);
+
+        assertEquals(List.of(doneBook), index.findWord("book"));
+        assertTrue(index.findWord("return").isEmpty());
+    }
+
+    @Test
+    public void removeAll_severalTasks_keepsOtherPostings() {
+        SearchIndex index = new SearchIndex();
+        Task readBook = new ToDo("read book");
+        Task notebook = new ToDo("buy notebook");
+        Task bookClub = new ToDo("book club");
+        Task readNews = new ToDo("read news");
+        index.add(readBook);
+        index.add(notebook);
+        index.add(bookClub);
+        index.add(readNews);
+
+        index.removeAll(List.of(bookClub, readBook));
+
+        assertTrue(index.findWord("book").isEmpty());
+        assertEquals(List.of(readNews), index.findWord("read"));
+        assertEquals(List.of(notebook), index.findSubstring("book"));
+    }
+
+    @Test
+    public void findSubstring_partialWords_verifiedMatchesOnly() {
+        SearchIndex index = new SearchIndex();
+        Task readBook = new ToDo("read book");
+        Task notebook = new ToDo("buy notebook");
+        Task scattered = new ToDo("ook and boo");
+        index.add(readBook);
+        index.add(notebook);
+        index.add(scattered);
+        index.remove(readBook);
+
+        assertEquals(List.of(notebook), index.findSubstring("book"));
+        assertEquals(List.of(notebook, scattered), index.findSubstring("ook"));
+        assertTrue(index.findSubstring("pen").isEmpty());
+    }
+
+
+    @Test
+    public void findSubstring_indicesOfMatches_sameAsScan() {
+        TaskList taskList = new TaskList(List.of(new ToDo("read book"), new ToDo("buy notebook"),
+                new ToDo("read news"), new ToDo("read book club"), new ToDo("book club")));
+        SearchIndex index = new SearchIndex();
+        index.rebuild(taskList);
+
+        for (String keyword : List.of("read book", "book", "read", "club", "missing")) {
+            assertArrayEquals(taskList.findIndicesByKeyword(keyword),
+                    taskList.indicesOf(index.findSubstring(keyword)), keyword);
+        }
+    }
+}
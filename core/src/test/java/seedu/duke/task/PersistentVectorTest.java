@@ -0,0 +1,74 @@
+package seedu.duke.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PersistentVectorTest {
+
+    private static void assertSameItems(ArrayList<Integer> expected, PersistentVector<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        ArrayList<Integer> iterated = new ArrayList<>();
+        actual.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        ArrayList<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            } else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                vector = vector.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            }
+        }
+        assertSameItems(expected, vector);
+
+        while (!expected.isEmpty()) {
+            expected.remove(0);
+            vector = vector.remove(0);
+        }
+        assertSameItems(expected, vector);
+    }
+
+    @Test
+    public void update_oldVersionUnchanged() {
+        ArrayList<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+        }
+        PersistentVector<Integer> original = PersistentVector.of(items);
+
+        original.set(500, -1).remove(10).add(1000).insert(0, -2);
+
+        assertSameItems(items, original);
+    }
+
+    @Test
+    public void get_invalidIndex_exceptionThrown() {
+        PersistentVector<Integer> vector = PersistentVector.<Integer>empty().add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(-1));
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.duke.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.duke.DukeException;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.command.DeadlineCommand;
+import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.DoneCommand;
+import seedu.duke.command.ToDoCommand;
+import seedu.duke.command.UndoCommand;
+import seedu.duke.index.DateIndex;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TaskListChangesTest {
+
+    @TempDir
+    File tempFolder;
+
+    private final Ui ui = new Ui();
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new Storage(tempFolder.getPath() + "/temp.text", new DateIndex());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storage.close();
+    }
+
+    private static TaskList createTaskList(int count) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        return new TaskList(tasks);
+    }
+
+    private static List<Task> toList(TaskList taskList) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        taskList.forEach(tasks::add);
+        return tasks;
+    }
+
+    /**
+     * Runs the command, applies the changes it reports to a list of the tasks
+     * before it, and checks that the list matches the task list after it.
+     */
+    private static void assertChangesMatch(Command command, TaskList before) throws DukeException {
+        command.execute();
+        TaskListChanges changes = new TaskListChanges();
+        command.reportChanges(changes);
+
+        List<Task> tasks = toList(before);
+        changes.takeChanges().accept(tasks);
+
+        assertEquals(toList(command.getTaskList()), tasks);
+    }
+
+    @Test
+    public void reportChanges_add_taskAddedAtEnd() throws DukeException {
+        TaskList taskList = createTaskList(3);
+        assertChangesMatch(new ToDoCommand(ui, taskList, "read book", storage), taskList);
+        assertChangesMatch(new DeadlineCommand(ui, taskList, "submit report",
+                LocalDate.of(2021, 9, 17), storage), taskList);
+    }
+
+    @Test
+    public void reportChanges_doneMany_tasksReplaced() throws DukeException {
+        TaskList taskList = createTaskList(6);
+        assertChangesMatch(new DoneCommand(ui, taskList, new int[] {0, 2, 3, 5}, storage), taskList);
+    }
+
+    @Test
+    public void reportChanges_deleteMany_removedFromTheBack() throws DukeException {
+        TaskList taskList = createTaskList(8);
+        // Removing front to back would shift the later indices onto the wrong tasks.
+        assertChangesMatch(new DeleteCommand(ui, taskList, new int[] {1, 3, 4, 7}, storage), taskList);
+    }
+
+    @Test
+    public void reportChanges_undo_taskListReset() throws DukeException {
+        TaskList original = createTaskList(4);
+        TaskListHistory history = new TaskListHistory(10);
+        TaskList changed = original.deleteTask(2);
+        history.record(original);
+
+        assertChangesMatch(new UndoCommand(ui, changed, history, storage), changed);
+    }
+
+    @Test
+    public void takeChanges_severalCommands_appliedTogetherInOrder() throws DukeException {
+        TaskList taskList = createTaskList(3);
+        TaskListChanges changes = new TaskListChanges();
+
+        Command add = new ToDoCommand(ui, taskList, "read book", storage);
+        add.execute();
+        add.reportChanges(changes);
+        Command delete = new DeleteCommand(ui, add.getTaskList(), new int[] {0}, storage);
+        delete.execute();
+        delete.reportChanges(changes);
+
+        List<Task> tasks = toList(taskList);
+        changes.takeChanges().accept(tasks);
+
+        assertEquals(toList(delete.getTaskList()), tasks);
+        assertNull(changes.takeChanges());
+    }
+
+    @Test
+    public void taskListReset_pendingChanges_dropped() {
+        TaskList taskList = createTaskList(2);
+        TaskListChanges changes = new TaskListChanges();
+        changes.taskRemoved(5);
+        changes.taskListReset(taskList);
+
+        List<Task> tasks = new ArrayList<>();
+        changes.takeChanges().accept(tasks);
+
+        assertEquals(toList(taskList), tasks);
+    }
+
+}
@@ -0,0 +1,126 @@
+package seedu.duke.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.duke.DukeException;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.command.RedoCommand;
+import seedu.duke.command.UndoCommand;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.SearchIndex;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskListHistoryTest {
+
+    @TempDir
+    File tempFolder;
+
+    private final Ui ui = new Ui();
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new Storage(tempFolder.getPath() + "/temp.text", new DateIndex());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storage.close();
+    }
+
+    @Test
+    public void record_beyondDepth_dropsOldestVersion() {
+        TaskListHistory history = new TaskListHistory(2);
+        TaskList first = new TaskList();
+        TaskList second = first.add(new ToDo("read book"));
+        TaskList third = second.add(new ToDo("return book"));
+        TaskList current = third.add(new ToDo("buy notebook"));
+        history.record(first);
+        history.record(second);
+        history.record(third);
+
+        assertSame(third, history.undo(current));
+        assertSame(second, history.undo(third));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void record_afterUndo_clearsVersionsToRedo() {
+        TaskListHistory history = new TaskListHistory(10);
+        TaskList first = new TaskList();
+        TaskList second = first.add(new ToDo("read book"));
+        history.record(first);
+        history.undo(second);
+        assertTrue(history.canRedo());
+
+        history.record(first);
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void record_depthZero_nothingToUndo() {
+        TaskListHistory history = new TaskListHistory(0);
+        history.record(new TaskList());
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    /**
+     * Runs the command and updates the indexes the way Duke does after a command.
+     */
+    private static TaskList executeAndUpdate(Command command, DateIndex dateIndex, SearchIndex searchIndex)
+            throws DukeException {
+        command.execute();
+        command.updateDateIndex(dateIndex);
+        command.updateSearchIndex(searchIndex);
+        return command.getTaskList();
+    }
+
+    @Test
+    public void undoAndRedo_afterAdd_restoreListAndIndexes() throws DukeException {
+        LocalDate date = LocalDate.of(2021, 9, 17);
+        Task report = new Deadline("submit report", date);
+        TaskList before = new TaskList(List.of(new ToDo("read book")));
+        TaskList after = before.add(report);
+        TaskListHistory history = new TaskListHistory(10);
+        history.record(before);
+        DateIndex dateIndex = new DateIndex();
+        SearchIndex searchIndex = new SearchIndex();
+        dateIndex.rebuild(after);
+        searchIndex.rebuild(after);
+
+        TaskList undone = executeAndUpdate(new UndoCommand(ui, after, history, storage), dateIndex, searchIndex);
+        assertSame(before, undone);
+        assertTrue(dateIndex.getTasksOn(date).isEmpty());
+        assertTrue(searchIndex.findWord("report").isEmpty());
+
+        TaskList redone = executeAndUpdate(new RedoCommand(ui, undone, history, storage), dateIndex, searchIndex);
+        assertSame(after, redone);
+        assertEquals(List.of(report), dateIndex.getTasksOn(date));
+        assertEquals(List.of(report), searchIndex.findWord("report"));
+    }
+
+    @Test
+    public void undo_emptyHistory_throwsDukeException() {
+        TaskListHistory history = new TaskListHistory(10);
+        assertThrows(DukeException.class,
+                () -> new UndoCommand(ui, new TaskList(), history, storage).execute());
+        assertThrows(DukeException.class,
+                () -> new RedoCommand(ui, new TaskList(), history, storage).execute());
+    }
+}
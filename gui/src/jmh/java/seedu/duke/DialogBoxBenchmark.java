@@ -0,0 +1,57 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to create the dialog box of one chat message.
+ * The JavaFX toolkit is started once, but the dialog boxes are not shown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DialogBoxBenchmark {
+    private static final String MESSAGE = "Got it. I've added this task:\n\n"
+            + "[D][ ] submit report (by: 2021-09-17)\nNow you have 12 tasks in the list.";
+
+    private Image image;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit is already running.
+            started.countDown();
+        }
+        started.await();
+        image = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/kaonashi.gif"));
+    }
+
+    @Benchmark
+    public DialogBox createUserDialog() {
+        return DialogBox.getUserDialog(MESSAGE, image);
+    }
+
+    @Benchmark
+    public DialogBox createDukeDialog() {
+        return DialogBox.getDukeDialog(MESSAGE, image);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.duke;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Represents a row of the chat history. A <code>ChatCell</code> keeps one
+ * dialog box for each sender and only changes their text when the list view
+ * reuses the cell for another message, so no nodes are created while scrolling.
+ */
+public class ChatCell extends ListCell<ChatMessage> {
+    /**
+     * Space left for the scroll bar, so that the text wraps instead of
+     * widening the row.
+     */
+    private static final double SCROLL_BAR_WIDTH = 20;
+    private static final String CELL_STYLE = "-fx-background-color: transparent; -fx-padding: 0;";
+
+    private final DialogBox userDialog;
+    private final DialogBox dukeDialog;
+
+    /**
+     * Public constructor for a <code>ChatCell</code>.
+     *
+     * @param listView The list view showing the cell.
+     * @param userImage User profile picture.
+     * @param dukeImage Duke's profile picture.
+     */
+    public ChatCell(ListView<ChatMessage> listView, Image userImage, Image dukeImage) {
+        userDialog = DialogBox.getUserDialog("", userImage);
+        dukeDialog = DialogBox.getDukeDialog("", dukeImage);
+        setStyle(CELL_STYLE);
+        prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_WIDTH));
+        setMaxWidth(USE_PREF_SIZE);
+    }
+
+    /**
+     * Shows the given message in the cell, or nothing if the cell is empty.
+     */
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+
+        DialogBox dialog = message.getSender() == ChatMessage.Sender.USER ? userDialog : dukeDialog;
+        dialog.setText(message.getText());
+        setGraphic(dialog);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.duke;
+
+/**
+ * Represents a message shown in the chat history. A <code>ChatMessage</code>
+ * only holds the text and who sent it; the dialog box showing it is created
+ * by the list view for visible messages only, and reused as the view scrolls.
+ */
+public class ChatMessage {
+    /**
+     * Represents who sent a message.
+     */
+    public enum Sender {
+        USER, DUKE
+    }
+
+    private final Sender sender;
+    private final String text;
+
+    private ChatMessage(Sender sender, String text) {
+        this.sender = sender;
+        this.text = text;
+    }
+
+    /**
+     * Returns a message typed by the user.
+     *
+     * @param text User input.
+     * @return The message from the user.
+     */
+    public static ChatMessage fromUser(String text) {
+        return new ChatMessage(Sender.USER, text);
+    }
+
+    /**
+     * Returns a message sent by Duke.
+     *
+     * @param text Duke's response.
+     * @return The message from Duke.
+     */
+    public static ChatMessage fromDuke(String text) {
+        return new ChatMessage(Sender.DUKE, text);
+    }
+
+    public Sender getSender() {
+        return sender;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
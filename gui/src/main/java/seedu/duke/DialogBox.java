@@ -0,0 +1,104 @@
+package seedu.duke;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+/**
+ * A custom control built in code.
+ * This control represents a dialog box consisting of an ImageView
+ * to represent the speaker's face and a label containing text from
+ * the speaker. The styles are immutable, so they are created once and
+ * shared by every dialog box.
+ */
+public class DialogBox extends HBox {
+    private static final Background USER_BACKGROUND = new Background(
+            new BackgroundFill(Color.valueOf("#8acae7"), CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Background DUKE_BACKGROUND = new Background(
+            new BackgroundFill(Color.valueOf("#bcceac"), CornerRadii.EMPTY, Insets.EMPTY));
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+    private static final double PREF_WIDTH = 400.0;
+    private static final double PICTURE_SIZE = 50.0;
+    private static final double PICTURE_MAX_HEIGHT = 60.0;
+    private static final double TEXT_GAP = 10.0;
+    private static final double LINE_SPACING = 1.5;
+
+    private final Label dialog;
+    private final ImageView displayPicture;
+
+    private DialogBox(String text, Image img, boolean isUser) {
+        dialog = new Label(text);
+        dialog.setGraphicTextGap(TEXT_GAP);
+        dialog.setTextOverrun(OverrunStyle.ELLIPSIS);
+        dialog.setLineSpacing(LINE_SPACING);
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        HBox.setHgrow(dialog, Priority.ALWAYS);
+
+        displayPicture = new ImageView(img);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setFitHeight(PICTURE_MAX_HEIGHT);
+        displayPicture.setPreserveRatio(true);
+        displayPicture.setPickOnBounds(true);
+        // A clip belongs to a single node, so unlike the styles it cannot be shared.
+        double radius = PICTURE_SIZE / 2;
+        displayPicture.setClip(new Circle(radius, radius, radius));
+
+        setPadding(PADDING);
+        setPrefWidth(PREF_WIDTH);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        if (isUser) {
+            setBackground(USER_BACKGROUND);
+            setAlignment(Pos.TOP_RIGHT);
+            getChildren().addAll(dialog, displayPicture);
+        } else {
+            setBackground(DUKE_BACKGROUND);
+            setAlignment(Pos.TOP_LEFT);
+            getChildren().addAll(displayPicture, dialog);
+        }
+    }
+
+    /**
+     * Changes the text shown in the dialog box, so that it can be reused for another message.
+     *
+     * @param text The text to show.
+     */
+    public void setText(String text) {
+        dialog.setText(text);
+    }
+
+    /**
+     * Returns the dialog box for user with the relevant information.
+     * The picture is on the right of the text.
+     *
+     * @param text User input.
+     * @param img User profile picture.
+     * @return Dialog box for main window.
+     */
+    public static DialogBox getUserDialog(String text, Image img) {
+        return new DialogBox(text, img, true);
+    }
+
+    /**
+     * Returns the dialog box for Duke with the relevant information.
+     * The picture is on the left of the text.
+     *
+     * @param text Duke's response.
+     * @param img Duke's profile picture.
+     * @return Dialog box for main window.
+     */
+    public static DialogBox getDukeDialog(String text, Image img) {
+        return new DialogBox(text, img, false);
+    }
+}
@@ -4,9 +4,14 @@ import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Scripts given with <code>--script</code> are run without the GUI.
  */
 public class Launcher {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--script")) {
+            Duke.main(args);
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
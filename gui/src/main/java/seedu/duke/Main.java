@@ -12,6 +12,7 @@ import javafx.stage.Stage;
 public class Main extends Application {
 
     private Duke duke = new Duke();
+    private MainWindow mainWindow;
 
     @Override
     public void start(Stage stage) {
@@ -20,7 +21,8 @@ public class Main extends Application {
                     new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
             fxmlLoader.setRoot(stage);
             fxmlLoader.load();
-            fxmlLoader.<MainWindow>getController().setDuke(duke);
+            mainWindow = fxmlLoader.getController();
+            mainWindow.setDuke(duke);
             stage.setTitle("Duke");
             stage.show();
         } catch (IOException e) {
@@ -31,5 +33,11 @@ public class Main extends Application {
     @Override
     public void stop() {
         System.out.println("Closing application...");
+        if (mainWindow != null) {
+            mainWindow.shutdown();
+        }
+        duke.stopReminders();
+        duke.getStorage().close();
+        duke.writeMetrics();
     }
 }
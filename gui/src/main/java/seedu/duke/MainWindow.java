@@ -0,0 +1,169 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
+import javafx.scene.image.Image;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller for seedu.duke.MainWindow. Provides the layout for the other controls.
+ * Duke is only ever used from one background thread, so loading and commands do
+ * not block the JavaFX application thread; their results are posted back to it.
+ */
+public class MainWindow extends Stage {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    @FXML
+    private ListView<ChatMessage> dialogList;
+    @FXML
+    private TextField userInput;
+    @FXML
+    private Button sendButton;
+    @FXML
+    private AnchorPane anchorPane;
+    @FXML
+    private Button reminderButton;
+    @FXML
+    private ProgressIndicator loadingIndicator;
+    @FXML
+    private VBox taskPane;
+
+    private Duke duke;
+
+    /**
+     * Runs the loading and the commands one at a time, in the order they were given.
+     */
+    private final ExecutorService dukeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Every message of the session. Only the visible ones are shown by dialog boxes.
+     */
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+
+    /**
+     * Tasks shown in the task panel, following the changes made by the commands.
+     */
+    private final TaskListModel taskListModel = new TaskListModel();
+
+    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/boh.jpeg"));
+    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/kaonashi.gif"));
+
+    /**
+     * Initialise the dialogList to show the messages with recycled cells.
+     */
+    @FXML
+    public void initialize() {
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new ChatCell(list, userImage, dukeImage));
+
+        TaskPanel taskPanel = new TaskPanel(taskListModel.getTasks());
+        VBox.setVgrow(taskPanel, Priority.ALWAYS);
+        taskPane.getChildren().add(taskPanel);
+    }
+
+    /**
+     * Initialise and start duke chat bot. The tasks are loaded in the background
+     * while the loading indicator is shown; input given meanwhile waits for them.
+     *
+     * @param d Duke instance.
+     */
+    public void setDuke(Duke d) {
+        duke = d;
+        loadingIndicator.setVisible(true);
+        dukeExecutor.execute(() -> {
+            duke.setTaskListListener(taskListModel);
+            duke.init();
+            taskListModel.publish();
+            String greeting = duke.getGreeting();
+            // The tasks themselves are shown in the task panel.
+            String status = duke.getTaskList().status();
+            String reminder = duke.getReminder();
+            duke.startReminders(message -> Platform.runLater(() -> addMessages(ChatMessage.fromDuke(message))));
+            Platform.runLater(() -> handleStart(greeting, status, reminder));
+        });
+    }
+
+    /**
+     * Stops taking commands and waits for those already given to finish.
+     */
+    public void shutdown() {
+        dukeExecutor.shutdown();
+        try {
+            dukeExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds a message echoing user input to the chat history, and queues the
+     * input to be run. Duke's reply is added once the command is done.
+     * Clears the user input straight away.
+     */
+    @FXML
+    private void handleUserInput() {
+        String input = userInput.getText();
+        addMessages(ChatMessage.fromUser(input));
+        userInput.clear();
+
+        dukeExecutor.execute(() -> {
+            String response = duke.getResponse(input);
+            boolean isExit = duke.getExit();
+            taskListModel.publish();
+            Platform.runLater(() -> {
+                addMessages(ChatMessage.fromDuke(response));
+                if (isExit) {
+                    Platform.exit();
+                    System.exit(0);
+                }
+            });
+        });
+    }
+
+    @FXML
+    private void handleReminder() {
+        dukeExecutor.execute(() -> {
+            String response = duke.getReminder();
+            Platform.runLater(() -> showReminder(response));
+        });
+    }
+
+    private void showReminder(String response) {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setContentText(response);
+        alert.show();
+    }
+
+    private void handleStart(String greeting, String status, String reminder) {
+        loadingIndicator.setVisible(false);
+        addMessages(ChatMessage.fromDuke(greeting), ChatMessage.fromDuke(status));
+        showReminder(reminder);
+    }
+
+    /**
+     * Appends the messages to the chat history and scrolls to the last one.
+     */
+    private void addMessages(ChatMessage... newMessages) {
+        messages.addAll(newMessages);
+        dialogList.scrollTo(messages.size() - 1);
+    }
+
+}
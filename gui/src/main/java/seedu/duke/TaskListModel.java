@@ -0,0 +1,41 @@
+package seedu.duke;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskListChanges;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Represents the tasks shown by the GUI. A <code>TaskListModel</code> follows
+ * the changes to the task list by position, so that only the rows of the
+ * tasks added, changed or deleted are updated. Changes are reported on the
+ * thread running the commands, and are held until they are published to
+ * the JavaFX application thread together.
+ */
+public class TaskListModel extends TaskListChanges {
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+
+    /**
+     * Returns the tasks, which are only changed on the JavaFX application thread.
+     *
+     * @return Observable list of the tasks, in the order they are listed.
+     */
+    public ObservableList<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Applies the changes reported so far to the tasks on the JavaFX application thread.
+     */
+    public void publish() {
+        Consumer<List<Task>> changes = takeChanges();
+        if (changes == null) {
+            return;
+        }
+        Platform.runLater(() -> changes.accept(tasks));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.duke;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import seedu.duke.task.Deadline;
+import seedu.duke.task.Event;
+import seedu.duke.task.Task;
+
+import java.time.LocalDate;
+
+/**
+ * A custom control built in code.
+ * This control shows the tasks in a table, with a field above it to filter
+ * them by keyword. Only the visible rows have cells, and filtering and sorting
+ * are done by views over the tasks, so neither copies nor redraws every row.
+ */
+public class TaskPanel extends VBox {
+    private static final String FILTER_PROMPT = "Filter tasks by keyword";
+    private static final double NUMBER_WIDTH = 50.0;
+    private static final double DONE_WIDTH = 50.0;
+    private static final double DATE_WIDTH = 100.0;
+
+    private final FilteredList<Task> filteredTasks;
+    private final SortedList<Task> sortedTasks;
+
+    /**
+     * Public constructor for a <code>TaskPanel</code>.
+     *
+     * @param tasks The tasks to show, in the order they are listed.
+     */
+    public TaskPanel(ObservableList<Task> tasks) {
+        filteredTasks = new FilteredList<>(tasks);
+        sortedTasks = new SortedList<>(filteredTasks);
+
+        TextField filter = new TextField();
+        filter.setPromptText(FILTER_PROMPT);
+        filter.textProperty().addListener((observable, oldText, newText) -> filterBy(newText));
+
+        TableView<Task> table = new TableView<>(sortedTasks);
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        sortedTasks.comparatorProperty().bind(table.comparatorProperty());
+        table.getColumns().add(createNumberColumn());
+        table.getColumns().add(createDoneColumn());
+        table.getColumns().add(createDescriptionColumn());
+        table.getColumns().add(createDateColumn());
+        VBox.setVgrow(table, Priority.ALWAYS);
+        tasks.addListener((ListChangeListener<Task>) change -> refreshIfShifted(change, table));
+
+        getChildren().addAll(filter, table);
+    }
+
+    /**
+     * Redraws the visible rows unless a single task was replaced in place. After an
+     * addition, deletion or reset, tasks can move to another number, but a filtered
+     * or sorted row can keep its task and row, in which case its cell would not be
+     * updated and show the old number. Only the visible rows have cells to redraw.
+     */
+    private static void refreshIfShifted(ListChangeListener.Change<? extends Task> change,
+                                         TableView<Task> table) {
+        while (change.next()) {
+            boolean isReplacedInPlace = change.getAddedSize() == 1 && change.getRemovedSize() == 1;
+            if (!isReplacedInPlace) {
+                table.refresh();
+                return;
+            }
+        }
+    }
+
+    private void filterBy(String keyword) {
+        if (keyword.isEmpty()) {
+            filteredTasks.setPredicate(null);
+            return;
+        }
+        filteredTasks.setPredicate(task -> task.containsKeyword(keyword));
+    }
+
+    /**
+     * Returns the column of task numbers, as used by commands. The number is
+     * looked up from the row through the views, so it follows deletions
+     * without the tasks holding their own number.
+     */
+    private TableColumn<Task, Task> createNumberColumn() {
+        TableColumn<Task, Task> column = new TableColumn<>("#");
+        column.setSortable(false);
+        column.setPrefWidth(NUMBER_WIDTH);
+        column.setMaxWidth(NUMBER_WIDTH);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue()));
+        column.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(Task task, boolean isEmpty) {
+                super.updateItem(task, isEmpty);
+                if (isEmpty) {
+                    setText(null);
+                    return;
+                }
+                int sourceIndex = filteredTasks.getSourceIndex(sortedTasks.getSourceIndex(getIndex()));
+                setText(String.valueOf(sourceIndex + 1));
+            }
+        });
+        return column;
+    }
+
+    private TableColumn<Task, String> createDoneColumn() {
+        TableColumn<Task, String> column = new TableColumn<>("Done");
+        column.setPrefWidth(DONE_WIDTH);
+        column.setMaxWidth(DONE_WIDTH);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().isCompleted() ? "X" : ""));
+        return column;
+    }
+
+    private TableColumn<Task, String> createDescriptionColumn() {
+        TableColumn<Task, String> column = new TableColumn<>("Task");
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(cell.getValue().getDescription()));
+        return column;
+    }
+
+    private TableColumn<Task, LocalDate> createDateColumn() {
+        TableColumn<Task, LocalDate> column = new TableColumn<>("Date");
+        column.setPrefWidth(DATE_WIDTH);
+        column.setMaxWidth(DATE_WIDTH);
+        column.setCellValueFactory(cell -> {
+            Task task = cell.getValue();
+            boolean isDated = task instanceof Deadline || task instanceof Event;
+            return new ReadOnlyObjectWrapper<>(isDated ? task.getDate() : null);
+        });
+        return column;
+    }
+}
@@ -1,94 +0,0 @@
-package seedu.duke;
-
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.geometry.Insets;
-import javafx.geometry.Pos;
-import javafx.scene.Node;
-import javafx.scene.control.Label;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.CornerRadii;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-
-/**
- * An example of a custom control using FXML.
- * This control represents a dialog box consisting of an ImageView
- * to represent the speaker's face and a label containing text from
- * the speaker.
- */
-public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
-
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        this.setBackground(new Background(
-                new BackgroundFill(
-                        Color.valueOf("#8acae7"), CornerRadii.EMPTY, Insets.EMPTY)));
-
-        displayPicture.setClip(new Circle(25, 25, 25)); // Clip to a circle
-        displayPicture.setFitWidth(50); // Center image
-        displayPicture.setImage(img);
-
-        dialog.setText(text);
-        dialog.setMinHeight(Region.USE_PREF_SIZE);
-    }
-
-    /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
-     */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-    }
-
-    /**
-     * Returns the dialog box for user with the relevant information.
-     *
-     * @param text User input.
-     * @param img User profile picture.
-     * @return Dialog box for main window.
-     */
-    public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
-    }
-
-    /**
-     * Returns the dialog box for Duke with the relevant information.
-     *
-     * @param text Duke's response.
-     * @param img Duke's profile picture.
-     * @return Dialog box for main window.
-     */
-    public static DialogBox getDukeDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.setBackground(new Background(
-                new BackgroundFill(
-                        Color.valueOf("#bcceac"), CornerRadii.EMPTY, Insets.EMPTY)));
-        db.flip();
-        return db;
-    }
-}